@@ -0,0 +1,42 @@
+package cholog.auth.infrastructure;
+
+import cholog.auth.dto.AuthInfo;
+import org.apache.tomcat.util.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 구현(legacyExtract)과 현재 구현의 호출당 할당량을 비교한다. gc 프로파일러의 gc.alloc.rate.norm 을 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BasicAuthorizationExtractorBenchmark {
+    private static final String HEADER = "Basic ZW1haWxAZW1haWwuY29tOjEyMzQ=";
+
+    private final BasicAuthorizationExtractor extractor = new BasicAuthorizationExtractor();
+
+    @Benchmark
+    public AuthInfo extract() {
+        return extractor.extract(HEADER);
+    }
+
+    @Benchmark
+    public AuthInfo legacyExtract() {
+        if ((HEADER.toLowerCase().startsWith("basic"))) {
+            String authHeaderValue = HEADER.substring("Basic".length()).trim();
+            byte[] decodedBytes = Base64.decodeBase64(authHeaderValue);
+            String decodedString = new String(decodedBytes);
+
+            String[] credentials = decodedString.split(":");
+            return new AuthInfo(credentials[0], credentials[1]);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,208 @@
+package cholog.loadtest;
+
+import cholog.SpringAuthApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * SpringAuthApplication 을 임의 포트로 띄우고 Basic, Session, Token 흐름을 차례로 부하 테스트한다.
+ * 각 클라이언트는 로그인은 한 번만 하고, 이후 /members/me/* 조회를 반복한다.
+ * <p>
+ * ex) ./gradlew loadTest -Dloadtest.clients=64 -Dloadtest.duration-seconds=30
+ */
+public class AuthLoadTest {
+    private static final String EMAIL = "email@email.com";
+    private static final String PASSWORD = "1234";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ServerAllocationMeter allocationMeter = new ServerAllocationMeter();
+    private final String baseUrl;
+    private final int clients;
+    private final Duration warmup;
+    private final Duration duration;
+
+    AuthLoadTest(int port, int clients, Duration warmup, Duration duration) {
+        this.baseUrl = "http://localhost:" + port;
+        this.clients = clients;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 32);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+        Path output = Path.of(System.getProperty("loadtest.output", "build/reports/load-test/report.json"));
+
+        // 모든 클라이언트가 같은 주소에서 로그인하므로 로그인 시도 제한을 클라이언트 수에 맞춰 늘린다.
+        String[] applicationArgs = {"--server.port=0", "--security.login.rate-limit.capacity=" + clients * 2};
+        try (ConfigurableApplicationContext context = SpringApplication.run(SpringAuthApplication.class, applicationArgs)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            AuthLoadTest loadTest = new AuthLoadTest(port, clients, warmup, duration);
+
+            List<FlowReport> flows = new ArrayList<>();
+            flows.add(loadTest.run("basic", loadTest::basicRequest));
+            flows.add(loadTest.run("session", loadTest::sessionRequest));
+            flows.add(loadTest.run("token", loadTest::tokenRequest));
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("timestamp", Instant.now().toString());
+            report.put("clients", clients);
+            report.put("warmupSeconds", warmup.toSeconds());
+            report.put("durationSeconds", duration.toSeconds());
+            report.put("flows", flows);
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            OBJECT_MAPPER.writeValue(output.toFile(), report);
+            System.out.println(OBJECT_MAPPER.writeValueAsString(report));
+        }
+    }
+
+    private FlowReport run(String flow, RequestFactory requestFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<HttpRequest> requests = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                requests.add(requestFactory.create());
+            }
+
+            drive(executor, requests, warmup);
+
+            Map<Long, Long> allocationStart = allocationMeter.snapshot();
+            long start = System.nanoTime();
+            List<ClientResult> results = drive(executor, requests, duration);
+            long elapsed = System.nanoTime() - start;
+            long allocatedBytes = allocationMeter.allocatedSince(allocationStart);
+
+            long errors = 0;
+            int count = 0;
+            for (ClientResult result : results) {
+                errors += result.errors;
+                count += result.count;
+            }
+            long[] latencies = new long[count];
+            int offset = 0;
+            for (ClientResult result : results) {
+                System.arraycopy(result.latencies, 0, latencies, offset, result.count);
+                offset += result.count;
+            }
+            return new FlowReport(flow, clients, latencies, errors, elapsed, allocatedBytes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<ClientResult> drive(ExecutorService executor, List<HttpRequest> requests, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>();
+        for (HttpRequest request : requests) {
+            futures.add(executor.submit(() -> drive(request, deadline)));
+        }
+
+        List<ClientResult> results = new ArrayList<>();
+        for (Future<ClientResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private ClientResult drive(HttpRequest request, long deadline) {
+        ClientResult result = new ClientResult();
+        while (System.nanoTime() - deadline < 0) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    result.errors++;
+                    continue;
+                }
+            } catch (IOException e) {
+                result.errors++;
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            result.record(System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    private HttpRequest basicRequest() {
+        String credentials = Base64.getEncoder().encodeToString((EMAIL + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+        return get("/members/me/basic").header("Authorization", "Basic " + credentials).build();
+    }
+
+    private HttpRequest sessionRequest() throws IOException, InterruptedException {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/login/session"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("email=" + EMAIL + "&password=" + PASSWORD))
+                .build();
+        HttpResponse<Void> response = httpClient.send(login, HttpResponse.BodyHandlers.discarding());
+        String cookie = response.headers().firstValue("Set-Cookie")
+                .orElseThrow(() -> new IllegalStateException("session login failed: " + response.statusCode()))
+                .split(";")[0];
+        return get("/members/me/session").header("Cookie", cookie).build();
+    }
+
+    private HttpRequest tokenRequest() throws IOException, InterruptedException {
+        HttpRequest login = HttpRequest.newBuilder(URI.create(baseUrl + "/login/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(Map.of("email", EMAIL, "password", PASSWORD))))
+                .build();
+        HttpResponse<String> response = httpClient.send(login, HttpResponse.BodyHandlers.ofString());
+        String accessToken = OBJECT_MAPPER.readTree(response.body()).path("accessToken").asText();
+        return get("/members/me/token").header("Authorization", "Bearer " + accessToken).build();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept", "application/json")
+                .GET();
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create() throws IOException, InterruptedException;
+    }
+
+    private static class ClientResult {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latency) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package cholog.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 인증 흐름의 측정 결과. 지연 시간은 밀리초, 할당량은 바이트 단위다.
+ */
+public class FlowReport {
+    private final String flow;
+    private final int clients;
+    private final long requests;
+    private final long errors;
+    private final double throughput;
+    private final double p50;
+    private final double p99;
+    private final double p999;
+    private final double allocatedBytesPerSecond;
+    private final double allocatedBytesPerRequest;
+
+    public FlowReport(String flow, int clients, long[] latencies, long errors, long elapsedNanos, long allocatedBytes) {
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        this.flow = flow;
+        this.clients = clients;
+        this.requests = latencies.length;
+        this.errors = errors;
+        this.throughput = latencies.length / seconds;
+        this.p50 = percentile(latencies, 0.50);
+        this.p99 = percentile(latencies, 0.99);
+        this.p999 = percentile(latencies, 0.999);
+        this.allocatedBytesPerSecond = allocatedBytes / seconds;
+        this.allocatedBytesPerRequest = latencies.length == 0 ? 0 : (double) allocatedBytes / latencies.length;
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    public String getFlow() {
+        return flow;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public double getAllocatedBytesPerSecond() {
+        return allocatedBytesPerSecond;
+    }
+
+    public double getAllocatedBytesPerRequest() {
+        return allocatedBytesPerRequest;
+    }
+}
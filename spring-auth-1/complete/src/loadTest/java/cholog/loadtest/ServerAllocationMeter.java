@@ -0,0 +1,40 @@
+package cholog.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tomcat 요청 처리 스레드(http-nio-*)가 할당한 바이트 수를 합산한다.
+ * 측정 구간 중에 새로 생긴 스레드는 시작 값을 0 으로 본다.
+ */
+class ServerAllocationMeter {
+    private static final String WORKER_THREAD_PREFIX = "http-nio-";
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    ServerAllocationMeter() {
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    Map<Long, Long> snapshot() {
+        Map<Long, Long> allocatedBytes = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(WORKER_THREAD_PREFIX)) {
+                long bytes = threadMXBean.getThreadAllocatedBytes(thread.getId());
+                if (bytes >= 0) {
+                    allocatedBytes.put(thread.getId(), bytes);
+                }
+            }
+        }
+        return allocatedBytes;
+    }
+
+    long allocatedSince(Map<Long, Long> start) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : snapshot().entrySet()) {
+            total += entry.getValue() - start.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+}
@@ -2,8 +2,10 @@ package cholog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SpringAuthApplication {
     public static void main(String[] args) {
         SpringApplication.run(SpringAuthApplication.class, args);
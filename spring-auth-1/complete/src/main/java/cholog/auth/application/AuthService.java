@@ -3,7 +3,11 @@ package cholog.auth.application;
 import cholog.auth.dto.MemberResponse;
 import cholog.auth.dto.TokenRequest;
 import cholog.auth.dto.TokenResponse;
-import cholog.auth.infrastructure.JwtTokenProvider;
+import cholog.auth.infrastructure.CredentialCache;
+import cholog.auth.infrastructure.PasswordHasher;
+import cholog.auth.infrastructure.SingleFlightCache;
+import cholog.auth.infrastructure.TokenProvider;
+import cholog.auth.infrastructure.TokenVerification;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -11,23 +15,53 @@ public class AuthService {
     private static final String EMAIL = "email@email.com";
     private static final String PASSWORD = "1234";
 
-    private JwtTokenProvider jwtTokenProvider;
+    private TokenProvider tokenProvider;
+    private PasswordHasher passwordHasher;
+    private CredentialCache credentialCache;
+    private SingleFlightCache<String, MemberResponse> memberLookupCache;
+    private final String hashedPassword;
 
-    public AuthService(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public AuthService(TokenProvider tokenProvider, PasswordHasher passwordHasher, CredentialCache credentialCache,
+                       SingleFlightCache<String, MemberResponse> memberLookupCache) {
+        this.tokenProvider = tokenProvider;
+        this.passwordHasher = passwordHasher;
+        this.credentialCache = credentialCache;
+        this.memberLookupCache = memberLookupCache;
+        this.hashedPassword = passwordHasher.hash(PASSWORD);
     }
 
     public boolean checkInvalidLogin(String principal, String credentials) {
-        return !EMAIL.equals(principal) || !PASSWORD.equals(credentials);
+        if (!EMAIL.equals(principal) || credentials == null) {
+            return true;
+        }
+        if (credentialCache.contains(principal, credentials)) {
+            return false;
+        }
+        if (!passwordHasher.matches(credentials, hashedPassword)) {
+            return true;
+        }
+
+        credentialCache.put(principal, credentials);
+        return false;
     }
 
     public MemberResponse findMember(String principal) {
-        return new MemberResponse(1L, principal, 10);
+        return memberLookupCache.get(principal, this::loadMember);
     }
 
-    public MemberResponse findMemberByToken(String token) {
-        String payload = jwtTokenProvider.getPayload(token);
-        return findMember(payload);
+    /**
+     * 토큰이 유효하면 subject 를, 아니면 null 을 반환한다. 실패해도 예외를 만들지 않는다.
+     */
+    public String authenticateByToken(String token) {
+        TokenVerification verification = tokenProvider.tryVerify(token);
+        if (!verification.isValid()) {
+            return null;
+        }
+        return verification.getClaims().getSubject();
+    }
+
+    public boolean revokeToken(String token) {
+        return tokenProvider.revoke(token);
     }
 
     public TokenResponse createToken(TokenRequest tokenRequest) {
@@ -35,7 +69,11 @@ public class AuthService {
             throw new AuthorizationException();
         }
 
-        String accessToken = jwtTokenProvider.createToken(tokenRequest.getEmail());
+        String accessToken = tokenProvider.createToken(tokenRequest.getEmail());
         return new TokenResponse(accessToken);
     }
+
+    private MemberResponse loadMember(String principal) {
+        return new MemberResponse(1L, principal, 10);
+    }
 }
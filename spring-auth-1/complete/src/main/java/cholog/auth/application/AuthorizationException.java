@@ -3,12 +3,16 @@ package cholog.auth.application;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+/**
+ * 응답 코드만 필요하므로 스택 트레이스를 채우지 않는다.
+ */
 @ResponseStatus(HttpStatus.UNAUTHORIZED)
 public class AuthorizationException extends RuntimeException {
     public AuthorizationException() {
+        this(null);
     }
 
     public AuthorizationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,90 @@
+package cholog.auth.application;
+
+import cholog.auth.dto.TokenIntrospectionResult;
+import cholog.auth.infrastructure.TokenProvider;
+import cholog.auth.infrastructure.TokenVerification;
+import cholog.auth.infrastructure.VerifiedClaims;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 토큰을 한 번에 검증한다. 토큰 하나의 검증은 수 마이크로초이므로 토큰마다 작업을 나누지 않고,
+ * parallelism 개의 구간으로 나눠 전용 스레드 풀과 호출 스레드가 나눠 처리한다.
+ */
+@Service
+public class TokenIntrospectionService {
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+
+    private final TokenProvider tokenProvider;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    public TokenIntrospectionService(TokenProvider tokenProvider,
+                                     @Value("${security.token.introspect.parallelism}") int parallelism) {
+        this.tokenProvider = tokenProvider;
+        this.parallelism = Math.max(1, parallelism);
+        this.executor = Executors.newFixedThreadPool(this.parallelism, new IntrospectionThreadFactory());
+    }
+
+    public List<TokenIntrospectionResult> introspect(List<String> tokens) {
+        TokenIntrospectionResult[] results = new TokenIntrospectionResult[tokens.size()];
+        int chunks = Math.min(parallelism, (tokens.size() + SEQUENTIAL_THRESHOLD - 1) / SEQUENTIAL_THRESHOLD);
+        if (chunks <= 1) {
+            introspect(tokens, results, 0, tokens.size());
+            return Arrays.asList(results);
+        }
+
+        int chunkSize = (tokens.size() + chunks - 1) / chunks;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks - 1);
+        for (int start = chunkSize; start < tokens.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, tokens.size());
+            futures.add(CompletableFuture.runAsync(() -> introspect(tokens, results, from, to), executor));
+        }
+        introspect(tokens, results, 0, chunkSize);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return Arrays.asList(results);
+    }
+
+    private void introspect(List<String> tokens, TokenIntrospectionResult[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = introspect(tokens.get(i));
+        }
+    }
+
+    private TokenIntrospectionResult introspect(String token) {
+        TokenVerification verification = tokenProvider.tryVerify(token);
+        if (!verification.isValid()) {
+            return TokenIntrospectionResult.inactive();
+        }
+        VerifiedClaims claims = verification.getClaims();
+        Long exp = claims.getExpiration() == null ? null : claims.getExpiration().getEpochSecond();
+        return new TokenIntrospectionResult(true, claims.getSubject(), exp);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class IntrospectionThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "token-introspect-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
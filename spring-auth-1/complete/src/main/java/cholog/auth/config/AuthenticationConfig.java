@@ -0,0 +1,25 @@
+package cholog.auth.config;
+
+import cholog.auth.application.AuthService;
+import cholog.auth.ui.AuthenticationFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * /members/me/* 와 /tokens/introspect 요청을 AuthenticationFilter 로 인증한다.
+ * introspect 를 열어 두면 누구나 탈취한 토큰이 유효한지 한꺼번에 확인할 수 있기 때문이다.
+ * 세션 저장소를 바꾼 경우에도 감싼 세션을 읽을 수 있도록 SessionRepositoryFilter 다음에 실행한다.
+ */
+@Configuration
+public class AuthenticationConfig {
+    public static final int AUTHENTICATION_FILTER_ORDER = SessionStoreConfig.SESSION_FILTER_ORDER + 1;
+
+    @Bean
+    public FilterRegistrationBean<AuthenticationFilter> authenticationFilter(AuthService authService) {
+        FilterRegistrationBean<AuthenticationFilter> registration = new FilterRegistrationBean<>(new AuthenticationFilter(authService));
+        registration.addUrlPatterns("/members/me/*", "/tokens/introspect");
+        registration.setOrder(AUTHENTICATION_FILTER_ORDER);
+        return registration;
+    }
+}
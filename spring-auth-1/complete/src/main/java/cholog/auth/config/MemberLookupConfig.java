@@ -0,0 +1,21 @@
+package cholog.auth.config;
+
+import cholog.auth.dto.MemberResponse;
+import cholog.auth.infrastructure.SingleFlightCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * principal 별 회원 조회를 하나로 합치고 결과를 잠깐 보관한다.
+ */
+@Configuration
+public class MemberLookupConfig {
+    @Bean
+    public SingleFlightCache<String, MemberResponse> memberLookupCache(@Value("${security.member.cache.ttl}") long ttlInMilliseconds,
+                                                                        @Value("${security.member.cache.maximum-size}") int maximumSize) {
+        return new SingleFlightCache<>(TimeUnit.MILLISECONDS.toNanos(ttlInMilliseconds), maximumSize);
+    }
+}
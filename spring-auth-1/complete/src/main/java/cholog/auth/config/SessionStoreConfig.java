@@ -0,0 +1,82 @@
+package cholog.auth.config;
+
+import cholog.auth.infrastructure.session.JdbcSessionRepository;
+import cholog.auth.infrastructure.session.MappedFileSessionRepository;
+import cholog.auth.infrastructure.session.SessionRepository;
+import cholog.auth.infrastructure.session.SessionRepositoryFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * security.session.store 값에 따라 세션 저장소를 고른다.
+ * servlet(기본값)은 Tomcat 의 HttpSession 을 그대로 사용하고, jdbc 와 mmap 은 SessionRepositoryFilter 로 요청을 감싼다.
+ */
+@Configuration
+public class SessionStoreConfig {
+    public static final int SESSION_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 50;
+
+    private final ObjectProvider<SessionRepository> sessionRepository;
+
+    public SessionStoreConfig(ObjectProvider<SessionRepository> sessionRepository) {
+        this.sessionRepository = sessionRepository;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "security.session.store", havingValue = "mmap")
+    public SessionRepository mappedFileSessionRepository(@Value("${security.session.mmap.path:}") String path,
+                                                         @Value("${security.session.mmap.capacity}") int capacity) throws IOException {
+        if (path.isBlank()) {
+            throw new IllegalStateException("security.session.store=mmap 을 사용하려면 인스턴스마다 다른 security.session.mmap.path 를 지정해야 합니다.");
+        }
+        return new MappedFileSessionRepository(Path.of(path), capacity);
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${security.session.store:servlet}' != 'servlet'")
+    public FilterRegistrationBean<SessionRepositoryFilter> sessionRepositoryFilter(SessionRepository sessionRepository,
+                                                                                   @Value("${security.session.max-inactive-interval}") int maxInactiveInterval) {
+        FilterRegistrationBean<SessionRepositoryFilter> registration = new FilterRegistrationBean<>(new SessionRepositoryFilter(sessionRepository, maxInactiveInterval));
+        registration.setOrder(SESSION_FILTER_ORDER);
+        return registration;
+    }
+
+    @Scheduled(fixedDelayString = "${security.session.cleanup-interval}")
+    public void deleteExpiredSessions() {
+        sessionRepository.ifAvailable(repository -> repository.deleteExpired(System.currentTimeMillis()));
+    }
+
+    /**
+     * DataSourceAutoConfiguration 은 application.properties 에서 제외했으므로, jdbc 저장소를 고른 경우에만 내장 H2 와 세션 테이블을 만든다.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "security.session.store", havingValue = "jdbc")
+    static class JdbcSessionStoreConfig {
+        @Bean
+        public DataSource sessionDataSource() {
+            return new EmbeddedDatabaseBuilder()
+                    .setType(EmbeddedDatabaseType.H2)
+                    .generateUniqueName(true)
+                    .addScript("classpath:session-schema.sql")
+                    .build();
+        }
+
+        @Bean
+        public SessionRepository jdbcSessionRepository(DataSource sessionDataSource) {
+            return new JdbcSessionRepository(new JdbcTemplate(sessionDataSource));
+        }
+    }
+}
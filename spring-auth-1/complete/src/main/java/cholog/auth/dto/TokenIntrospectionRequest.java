@@ -0,0 +1,18 @@
+package cholog.auth.dto;
+
+import java.util.List;
+
+public class TokenIntrospectionRequest {
+    private List<String> tokens;
+
+    public TokenIntrospectionRequest() {
+    }
+
+    public TokenIntrospectionRequest(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    public List<String> getTokens() {
+        return tokens;
+    }
+}
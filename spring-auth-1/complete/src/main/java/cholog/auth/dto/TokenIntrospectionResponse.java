@@ -0,0 +1,18 @@
+package cholog.auth.dto;
+
+import java.util.List;
+
+public class TokenIntrospectionResponse {
+    private List<TokenIntrospectionResult> results;
+
+    public TokenIntrospectionResponse() {
+    }
+
+    public TokenIntrospectionResponse(List<TokenIntrospectionResult> results) {
+        this.results = results;
+    }
+
+    public List<TokenIntrospectionResult> getResults() {
+        return results;
+    }
+}
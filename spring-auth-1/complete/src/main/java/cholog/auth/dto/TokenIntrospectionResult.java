@@ -0,0 +1,40 @@
+package cholog.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 유효하지 않은 토큰은 active=false 만 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionResult {
+    private static final TokenIntrospectionResult INACTIVE = new TokenIntrospectionResult(false, null, null);
+
+    private boolean active;
+    private String sub;
+    private Long exp;
+
+    public TokenIntrospectionResult() {
+    }
+
+    public TokenIntrospectionResult(boolean active, String sub, Long exp) {
+        this.active = active;
+        this.sub = sub;
+        this.exp = exp;
+    }
+
+    public static TokenIntrospectionResult inactive() {
+        return INACTIVE;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public String getSub() {
+        return sub;
+    }
+
+    public Long getExp() {
+        return exp;
+    }
+}
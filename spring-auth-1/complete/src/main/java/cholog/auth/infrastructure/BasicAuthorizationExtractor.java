@@ -2,35 +2,121 @@ package cholog.auth.infrastructure;
 
 import cholog.auth.dto.AuthInfo;
 import jakarta.servlet.http.HttpServletRequest;
-import org.apache.tomcat.util.codec.binary.Base64;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
+/**
+ * Authorization: Basic base64(email:password) 헤더를 해석한다.
+ * 헤더 문자열을 자르거나 소문자로 바꾸지 않고 제자리에서 스캔하며,
+ * Base64 는 스레드별로 재사용하는 버퍼에 바로 디코딩한 뒤 첫 번째 콜론을 기준으로 나눈다.
+ */
 public class BasicAuthorizationExtractor implements AuthorizationExtractor<AuthInfo> {
     private static final String BASIC_TYPE = "Basic";
-    private static final String DELIMITER = ":";
+    private static final byte DELIMITER = ':';
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final byte[] DECODE_TABLE = decodeTable();
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
 
     @Override
     public AuthInfo extract(HttpServletRequest request) {
-        String header = request.getHeader(AUTHORIZATION);
+        return extract(request.getHeader(AUTHORIZATION));
+    }
+
+    public AuthInfo extract(String header) {
+        if (header == null || !header.regionMatches(true, 0, BASIC_TYPE, 0, BASIC_TYPE.length())) {
+            return null;
+        }
+
+        int start = BASIC_TYPE.length();
+        int end = header.length();
+        while (start < end && Character.isWhitespace(header.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(header.charAt(end - 1))) {
+            end--;
+        }
+        if (start == BASIC_TYPE.length() || start == end) {
+            return null;
+        }
 
-        if (header == null) {
+        byte[] buffer = buffer((end - start) / 4 * 3 + 3);
+        int length = decode(header, start, end, buffer);
+        if (length < 0) {
             return null;
         }
 
-        if ((header.toLowerCase().startsWith(BASIC_TYPE.toLowerCase()))) {
-            String authHeaderValue = header.substring(BASIC_TYPE.length()).trim();
-            byte[] decodedBytes = Base64.decodeBase64(authHeaderValue);
-            String decodedString = new String(decodedBytes);
+        int delimiterIndex = indexOf(buffer, length, DELIMITER);
+        if (delimiterIndex < 0) {
+            return null;
+        }
 
-            String[] credentials = decodedString.split(DELIMITER);
-            String email = credentials[0];
-            String password = credentials[1];
+        String email = new String(buffer, 0, delimiterIndex, StandardCharsets.UTF_8);
+        String password = new String(buffer, delimiterIndex + 1, length - delimiterIndex - 1, StandardCharsets.UTF_8);
+        return new AuthInfo(email, password);
+    }
 
-            return new AuthInfo(email, password);
+    private static byte[] buffer(int size) {
+        byte[] buffer = BUFFER.get();
+        if (buffer.length < size) {
+            buffer = new byte[size];
+            BUFFER.set(buffer);
         }
+        return buffer;
+    }
 
-        return null;
+    /**
+     * 잘못된 Base64 문자가 있으면 -1 을 반환한다.
+     */
+    private static int decode(String source, int start, int end, byte[] target) {
+        int bits = 0;
+        int bitCount = 0;
+        int length = 0;
+        int index = start;
+        for (; index < end; index++) {
+            char c = source.charAt(index);
+            if (c == '=') {
+                break;
+            }
+            int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[length++] = (byte) (bits >> bitCount);
+                bits &= (1 << bitCount) - 1;
+            }
+        }
+        for (; index < end; index++) {
+            if (source.charAt(index) != '=') {
+                return -1;
+            }
+        }
+        if (bitCount >= 6) {
+            return -1;
+        }
+        return length;
     }
 
+    private static int indexOf(byte[] bytes, int length, byte value) {
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
+    private static byte[] decodeTable() {
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < alphabet.length(); i++) {
+            table[alphabet.charAt(i)] = (byte) i;
+        }
+        return table;
+    }
 }
@@ -4,26 +4,66 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import java.util.Enumeration;
 
+/**
+ * Authorization 헤더 값을 제자리에서 스캔해 Bearer 토큰 문자열만 만든다.
+ * 토큰 타입을 request attribute 로 남기는 동작은 exposeTokenType 을 켠 경우에만 수행한다.
+ */
 public class BearerAuthorizationExtractor implements AuthorizationExtractor<String> {
+    public static final String ACCESS_TOKEN_TYPE = BearerAuthorizationExtractor.class.getSimpleName() + ".ACCESS_TOKEN_TYPE";
     private static final String BEARER_TYPE = "Bearer";
-    private static final String ACCESS_TOKEN_TYPE = BearerAuthorizationExtractor.class.getSimpleName() + ".ACCESS_TOKEN_TYPE";
+
+    private final boolean exposeTokenType;
+
+    public BearerAuthorizationExtractor() {
+        this(false);
+    }
+
+    public BearerAuthorizationExtractor(boolean exposeTokenType) {
+        this.exposeTokenType = exposeTokenType;
+    }
 
     @Override
     public String extract(HttpServletRequest request) {
         Enumeration<String> headers = request.getHeaders(AUTHORIZATION);
         while (headers.hasMoreElements()) {
             String value = headers.nextElement();
-            if ((value.toLowerCase().startsWith(BEARER_TYPE.toLowerCase()))) {
-                String authHeaderValue = value.substring(BEARER_TYPE.length()).trim();
-                request.setAttribute(ACCESS_TOKEN_TYPE, value.substring(0, BEARER_TYPE.length()).trim());
-                int commaIndex = authHeaderValue.indexOf(',');
-                if (commaIndex > 0) {
-                    authHeaderValue = authHeaderValue.substring(0, commaIndex);
+            String token = extract(value);
+            if (token != null) {
+                if (exposeTokenType) {
+                    request.setAttribute(ACCESS_TOKEN_TYPE, value.substring(0, BEARER_TYPE.length()));
                 }
-                return authHeaderValue;
+                return token;
             }
         }
 
         return null;
     }
+
+    public String extract(String value) {
+        if (value == null || !value.regionMatches(true, 0, BEARER_TYPE, 0, BEARER_TYPE.length())) {
+            return null;
+        }
+
+        int start = BEARER_TYPE.length();
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        if (start == BEARER_TYPE.length() && start < end) {
+            return null;
+        }
+
+        int commaIndex = value.indexOf(',', start);
+        if (commaIndex > start) {
+            end = commaIndex;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        return value.substring(start, end);
+    }
 }
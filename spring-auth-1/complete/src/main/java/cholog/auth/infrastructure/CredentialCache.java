@@ -0,0 +1,79 @@
+package cholog.auth.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검증에 성공한 (principal, credentials) 쌍을 짧은 시간 동안 기억해 느린 비밀번호 해시를 건너뛴다.
+ * key 는 프로세스마다 새로 만드는 비밀키로 계산한 HMAC 이므로 평문 비밀번호를 보관하지 않는다.
+ */
+@Component
+public class CredentialCache {
+    private final Map<ByteBuffer, Long> entries = new ConcurrentHashMap<>();
+    private final HmacSha256Signer signer;
+    private final long ttlNanos;
+    private final int maximumSize;
+
+    public CredentialCache(@Value("${security.password.cache.ttl}") long ttlInMilliseconds,
+                           @Value("${security.password.cache.maximum-size}") int maximumSize) {
+        this.signer = new HmacSha256Signer(newKey());
+        this.ttlNanos = ttlInMilliseconds * 1_000_000;
+        this.maximumSize = maximumSize;
+    }
+
+    public boolean contains(String principal, String credentials) {
+        ByteBuffer key = digest(principal, credentials);
+        Long expiresAt = entries.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void put(String principal, String credentials) {
+        long now = System.nanoTime();
+        if (entries.size() >= maximumSize) {
+            entries.values().removeIf(expiresAt -> expiresAt - now <= 0);
+            if (entries.size() >= maximumSize) {
+                return;
+            }
+        }
+        entries.put(digest(principal, credentials), now + ttlNanos);
+    }
+
+    /**
+     * 비밀번호가 바뀌면 이전 비밀번호로 캐시된 쌍을 지운다.
+     */
+    public void invalidate(String principal, String credentials) {
+        entries.remove(digest(principal, credentials));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private ByteBuffer digest(String principal, String credentials) {
+        String value = principal + '\u0000' + credentials;
+        return ByteBuffer.wrap(signer.sign(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static SecretKey newKey() {
+        try {
+            return KeyGenerator.getInstance(HmacSha256Signer.ALGORITHM).generateKey();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package cholog.auth.infrastructure;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * SecretKey 로 초기화된 Mac 을 스레드마다 하나씩 만들어 재사용한다.
+ * Mac 은 thread-safe 하지 않으므로 공유하지 않고, doFinal 이 상태를 초기화하므로 매번 init 할 필요가 없다.
+ */
+final class HmacSha256Signer {
+    static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKey key;
+    private final ThreadLocal<Mac> macs;
+
+    HmacSha256Signer(SecretKey key) {
+        this.key = key;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    byte[] sign(byte[] data) {
+        Mac mac = macs.get();
+        mac.reset();
+        return mac.doFinal(data);
+    }
+
+    boolean verify(byte[] data, byte[] signature) {
+        return MessageDigest.isEqual(sign(data), signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package cholog.auth.infrastructure;
+
+public class InvalidTokenException extends RuntimeException {
+    private final Reason reason;
+
+    public InvalidTokenException(Reason reason) {
+        super(reason.name());
+        this.reason = reason;
+    }
+
+    public InvalidTokenException(Reason reason, Throwable cause) {
+        super(reason.name(), cause);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public enum Reason {
+        MISSING,
+        MALFORMED,
+        UNKNOWN,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        REVOKED
+    }
+}
@@ -1,43 +1,232 @@
 package cholog.auth.infrastructure;
 
-import io.jsonwebtoken.*;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.impl.TextCodec;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
-public class JwtTokenProvider {
-    @Value("${security.jwt.token.secret-key}")
-    private String secretKey;
-    @Value("${security.jwt.token.expire-length}")
-    private long validityInMilliseconds;
+@ConditionalOnProperty(name = "security.token.mode", havingValue = "jwt", matchIfMissing = true)
+public class JwtTokenProvider implements TokenProvider {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonFactory JSON_FACTORY = OBJECT_MAPPER.getFactory();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final String HEADER_PREFIX = ENCODER.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + '.';
 
+    private final SecretKey signingKey;
+    private final HmacSha256Signer signer;
+    private final long validityInMilliseconds;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore revocationStore;
+    private final SecureRandom random = new SecureRandom();
+
+    public JwtTokenProvider(@Value("${security.jwt.token.secret-key}") String secretKey,
+                            @Value("${security.jwt.token.expire-length}") long validityInMilliseconds,
+                            VerifiedTokenCache verifiedTokenCache,
+                            TokenRevocationStore revocationStore) {
+        // jjwt 의 signWith(HS256, String)/setSigningKey(String) 과 같은 방식으로 한 번만 디코딩한다.
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), HmacSha256Signer.ALGORITHM);
+        this.signer = new HmacSha256Signer(signingKey);
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationStore = revocationStore;
+    }
+
+    @Override
     public String createToken(String payload) {
-        Claims claims = Jwts.claims().setSubject(payload);
-        Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
+        long now = System.currentTimeMillis();
+        long validity = now + validityInMilliseconds;
 
-        return Jwts.builder()
-                .setClaims(claims)
-                .setIssuedAt(now)
-                .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
-                .compact();
+        String signingInput = HEADER_PREFIX + ENCODER.encodeToString(writeClaims(newTokenId(), payload, now / 1000, validity / 1000));
+        byte[] signature = signer.sign(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * 서명 검증과 claims 파싱을 한 번에 수행한다.
+     * 검증에 실패하면 예외 대신 실패 사유를 담은 TokenVerification 을 반환한다.
+     * 이미 검증된 토큰은 만료 전까지 VerifiedTokenCache 에서 바로 반환하되, 폐기 여부는 캐시 적중 때도 확인한다.
+     */
+    @Override
+    public TokenVerification tryVerify(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenVerification.failure(InvalidTokenException.Reason.MISSING);
+        }
+
+        VerifiedClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            if (revocationStore.isRevoked(cached.getTokenId())) {
+                return TokenVerification.failure(InvalidTokenException.Reason.REVOKED);
+            }
+            return TokenVerification.success(cached);
+        }
+
+        TokenVerification verification = verifyHs256(token);
+        if (!verification.isValid()) {
+            return verification;
+        }
+        if (verification.getClaims().isExpiredAt(Instant.now())) {
+            return TokenVerification.failure(InvalidTokenException.Reason.EXPIRED);
+        }
+        if (revocationStore.isRevoked(verification.getClaims().getTokenId())) {
+            return TokenVerification.failure(InvalidTokenException.Reason.REVOKED);
+        }
+        verifiedTokenCache.put(token, verification.getClaims());
+        return verification;
+    }
+
+    /**
+     * jti 를 만료 시각까지 폐기 목록에 올린다. jti 나 exp 가 없는 토큰은 폐기할 수 없다.
+     */
+    @Override
+    public boolean revoke(String token) {
+        TokenVerification verification = tryVerify(token);
+        if (!verification.isValid()) {
+            return false;
+        }
+        VerifiedClaims claims = verification.getClaims();
+        if (claims.getTokenId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+        revocationStore.revoke(claims.getTokenId(), claims.getExpiration().getEpochSecond());
+        verifiedTokenCache.invalidate(token);
+        return true;
     }
 
     public String getPayload(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+        return verify(token).getSubject();
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
+        return tryVerify(token).isValid();
+    }
+
+    /**
+     * createToken 이 발급하는 {"alg":"HS256"} 헤더의 토큰은 스레드별 Mac 으로 직접 검증한다.
+     * Base64URL 알파벳을 미리 확인해 잘못된 토큰도 디코더 예외 없이 거절한다.
+     * 헤더가 다른 토큰(typ, 키 순서, 공백 등)은 jjwt 로 검증한다.
+     */
+    private TokenVerification verifyHs256(String token) {
+        if (!token.startsWith(HEADER_PREFIX)) {
+            return verifyWithJjwt(token);
+        }
+        int payloadEnd = token.indexOf('.', HEADER_PREFIX.length());
+        if (payloadEnd < 0 || !isBase64Url(token, HEADER_PREFIX.length(), payloadEnd) || !isBase64Url(token, payloadEnd + 1, token.length())) {
+            return TokenVerification.failure(InvalidTokenException.Reason.MALFORMED);
+        }
+
+        byte[] signature = DECODER.decode(token.substring(payloadEnd + 1));
+        if (!signer.verify(token.substring(0, payloadEnd).getBytes(StandardCharsets.US_ASCII), signature)) {
+            return TokenVerification.failure(InvalidTokenException.Reason.INVALID_SIGNATURE);
+        }
 
-            return !claims.getBody().getExpiration().before(new Date());
+        VerifiedClaims claims = readClaims(DECODER.decode(token.substring(HEADER_PREFIX.length(), payloadEnd)));
+        if (claims == null) {
+            return TokenVerification.failure(InvalidTokenException.Reason.MALFORMED);
+        }
+        return TokenVerification.success(claims);
+    }
+
+    private TokenVerification verifyWithJjwt(String token) {
+        try {
+            Claims claims = Jwts.parser()
+                    .setSigningKey(signingKey)
+                    .parseClaimsJws(token)
+                    .getBody();
+            return TokenVerification.success(new VerifiedClaims(claims.getId(), claims.getSubject(),
+                    toInstant(claims.getIssuedAt()), toInstant(claims.getExpiration())));
+        } catch (ExpiredJwtException e) {
+            return TokenVerification.failure(InvalidTokenException.Reason.EXPIRED);
+        } catch (SignatureException e) {
+            return TokenVerification.failure(InvalidTokenException.Reason.INVALID_SIGNATURE);
         } catch (JwtException | IllegalArgumentException e) {
+            return TokenVerification.failure(InvalidTokenException.Reason.MALFORMED);
+        }
+    }
+
+    private boolean isBase64Url(String value, int start, int end) {
+        if (start >= end || (end - start) % 4 == 1) {
             return false;
         }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            boolean valid = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String newTokenId() {
+        byte[] bytes = new byte[TOKEN_ID_BYTES];
+        random.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
     }
-}
 
+    private byte[] writeClaims(String tokenId, String subject, long issuedAt, long expiration) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField(Claims.ID, tokenId);
+            generator.writeStringField(Claims.SUBJECT, subject);
+            generator.writeNumberField(Claims.ISSUED_AT, issuedAt);
+            generator.writeNumberField(Claims.EXPIRATION, expiration);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private VerifiedClaims readClaims(byte[] payload) {
+        JsonNode claims;
+        try {
+            claims = OBJECT_MAPPER.readTree(payload);
+        } catch (IOException e) {
+            return null;
+        }
+        if (claims == null || !claims.isObject()) {
+            return null;
+        }
+
+        return new VerifiedClaims(
+                claims.path(Claims.ID).textValue(),
+                claims.path(Claims.SUBJECT).textValue(),
+                toInstant(claims.get(Claims.ISSUED_AT)),
+                toInstant(claims.get(Claims.EXPIRATION))
+        );
+    }
+
+    private Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    private Instant toInstant(JsonNode seconds) {
+        if (seconds == null || !seconds.canConvertToLong()) {
+            return null;
+        }
+        return Instant.ofEpochSecond(seconds.asLong());
+    }
+}
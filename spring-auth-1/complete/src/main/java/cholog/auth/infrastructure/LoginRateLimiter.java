@@ -0,0 +1,53 @@
+package cholog.auth.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도를 principal 과 접속 주소 각각의 토큰 버킷으로 제한한다.
+ * 비밀번호 확인 전에 호출해 과도한 시도가 해시 비용을 쓰지 못하게 한다.
+ */
+@Component
+public class LoginRateLimiter {
+    private final TokenBucketRateLimiter principalLimiter;
+    private final TokenBucketRateLimiter addressLimiter;
+
+    public LoginRateLimiter(@Value("${security.login.rate-limit.capacity}") int capacity,
+                            @Value("${security.login.rate-limit.refill-interval}") long refillIntervalInMilliseconds,
+                            @Value("${security.login.rate-limit.maximum-size}") int maximumSize) {
+        long refillIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refillIntervalInMilliseconds);
+        this.principalLimiter = new TokenBucketRateLimiter(capacity, refillIntervalNanos, maximumSize);
+        this.addressLimiter = new TokenBucketRateLimiter(capacity, refillIntervalNanos, maximumSize);
+    }
+
+    /**
+     * 허용되면 0 을, 아니면 다시 시도할 수 있을 때까지의 시간(초, 올림)을 반환한다.
+     * 두 제한을 모두 확인한 뒤에만 토큰을 사용하므로, 한쪽에서 거절된 시도는 다른 쪽 토큰을 쓰지 않는다.
+     */
+    public long tryAcquire(String principal, String remoteAddress) {
+        long waitNanos = Math.max(addressLimiter.waitNanos(remoteAddress), principal == null ? 0 : principalLimiter.waitNanos(principal));
+        if (waitNanos == 0) {
+            waitNanos = addressLimiter.tryAcquire(remoteAddress);
+        }
+        if (waitNanos == 0 && principal != null) {
+            waitNanos = principalLimiter.tryAcquire(principal);
+            // 확인한 뒤 다른 요청이 먼저 principal 토큰을 가져간 경우
+            if (waitNanos > 0) {
+                addressLimiter.refund(remoteAddress);
+            }
+        }
+        if (waitNanos == 0) {
+            return 0;
+        }
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.rate-limit.sweep-interval}")
+    public void removeIdleBuckets() {
+        principalLimiter.removeIdleBuckets();
+        addressLimiter.removeIdleBuckets();
+    }
+}
@@ -0,0 +1,71 @@
+package cholog.auth.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 128bit 난수 토큰을 발급하고 서버 메모리의 OpaqueTokenStore 로 해석한다.
+ * security.token.mode=opaque 일 때 JwtTokenProvider 대신 사용된다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.token.mode", havingValue = "opaque")
+public class OpaqueTokenProvider implements TokenProvider {
+    private static final int TOKEN_BYTES = 16;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+    private final OpaqueTokenStore tokenStore;
+    private final Clock clock;
+    private final long validityInMilliseconds;
+
+    public OpaqueTokenProvider(@Value("${security.token.opaque.expire-length}") long validityInMilliseconds) {
+        this.clock = Clock.systemUTC();
+        this.tokenStore = new OpaqueTokenStore(clock);
+        this.validityInMilliseconds = validityInMilliseconds;
+    }
+
+    @Override
+    public String createToken(String payload) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = ENCODER.encodeToString(bytes);
+
+        Instant now = clock.instant();
+        tokenStore.save(token, new VerifiedClaims(payload, now, now.plusMillis(validityInMilliseconds)));
+        return token;
+    }
+
+    @Override
+    public TokenVerification tryVerify(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenVerification.failure(InvalidTokenException.Reason.MISSING);
+        }
+
+        VerifiedClaims claims = tokenStore.find(token);
+        if (claims == null) {
+            return TokenVerification.failure(InvalidTokenException.Reason.UNKNOWN);
+        }
+        return TokenVerification.success(claims);
+    }
+
+    @Override
+    public boolean revoke(String token) {
+        if (!tryVerify(token).isValid()) {
+            return false;
+        }
+        tokenStore.remove(token);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${security.token.opaque.sweep-interval:60000}")
+    public void removeExpiredTokens() {
+        tokenStore.removeExpired();
+    }
+}
@@ -0,0 +1,46 @@
+package cholog.auth.infrastructure;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 불투명 토큰과 claims 를 보관한다.
+ * ConcurrentHashMap 은 조회에 락을 잡지 않고 갱신도 bin 단위로만 잠그므로, 요청 경로에서는 map 조회 한 번으로 끝난다.
+ */
+public class OpaqueTokenStore {
+    private final ConcurrentHashMap<String, VerifiedClaims> tokens = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public OpaqueTokenStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void save(String token, VerifiedClaims claims) {
+        tokens.put(token, claims);
+    }
+
+    public VerifiedClaims find(String token) {
+        VerifiedClaims claims = tokens.get(token);
+        if (claims != null && claims.isExpiredAt(clock.instant())) {
+            tokens.remove(token, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    public void remove(String token) {
+        tokens.remove(token);
+    }
+
+    public int removeExpired() {
+        Instant now = clock.instant();
+        int before = tokens.size();
+        tokens.values().removeIf(claims -> claims.isExpiredAt(now));
+        return before - tokens.size();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+}
@@ -0,0 +1,7 @@
+package cholog.auth.infrastructure;
+
+public interface PasswordHasher {
+    String hash(String rawPassword);
+
+    boolean matches(String rawPassword, String hashedPassword);
+}
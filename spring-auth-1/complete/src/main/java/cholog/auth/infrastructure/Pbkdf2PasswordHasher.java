@@ -0,0 +1,76 @@
+package cholog.auth.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * PBKDF2WithHmacSHA256 으로 해시한다. 저장 형식은 iterations:salt:hash 이며 salt 와 hash 는 Base64 로 인코딩한다.
+ */
+@Component
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String DELIMITER = ":";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private final SecureRandom random = new SecureRandom();
+    private final int iterations;
+
+    public Pbkdf2PasswordHasher(@Value("${security.password.pbkdf2.iterations}") int iterations) {
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = pbkdf2(rawPassword, salt, iterations);
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        return iterations + DELIMITER + encoder.encodeToString(salt) + DELIMITER + encoder.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String hashedPassword) {
+        if (rawPassword == null || hashedPassword == null) {
+            return false;
+        }
+
+        String[] parts = hashedPassword.split(DELIMITER);
+        if (parts.length != 3) {
+            return false;
+        }
+
+        // 저장된 값이 깨져 있으면 예외 대신 불일치로 처리한다.
+        try {
+            int storedIterations = Integer.parseInt(parts[0]);
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] salt = decoder.decode(parts[1]);
+            byte[] expected = decoder.decode(parts[2]);
+            if (storedIterations <= 0 || salt.length == 0 || expected.length == 0) {
+                return false;
+            }
+            return MessageDigest.isEqual(expected, pbkdf2(rawPassword, salt, storedIterations));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] pbkdf2(String rawPassword, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
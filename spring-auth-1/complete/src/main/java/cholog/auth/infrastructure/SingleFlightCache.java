@@ -0,0 +1,152 @@
+package cholog.auth.infrastructure;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 같은 key 에 대한 조회가 동시에 들어오면 하나만 실행하고 나머지는 그 결과를 함께 받는다.
+ * 조회 결과는 ttl 동안 보관하며, 최대 개수에 이르면 만료된 엔트리를 지우고 만료가 임박한 엔트리를 최대 개수의 1/10 만큼 한꺼번에 지운다.
+ */
+public class SingleFlightCache<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Map<K, CachedValue<V>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final int evictionBatchSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+
+    public SingleFlightCache(long ttlNanos, int maximumSize) {
+        this.ttlNanos = ttlNanos;
+        this.maximumSize = maximumSize;
+        this.evictionBatchSize = Math.max(1, maximumSize / 10);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        CachedValue<V> cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt - System.nanoTime() > 0) {
+                hitCount.increment();
+                return cached.value;
+            }
+            entries.remove(key, cached);
+        }
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            suppressedCount.increment();
+            return join(existing);
+        }
+
+        loadCount.increment();
+        try {
+            V value = loader.apply(key);
+            cache(key, value);
+            created.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error 로 끝나도 합류한 호출자가 영원히 기다리지 않도록 future 를 반드시 완료한다.
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * 이미 실행 중인 조회에 합류해 생략된 조회 수
+     */
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    private void cache(K key, V value) {
+        if (ttlNanos <= 0 || maximumSize <= 0 || value == null) {
+            return;
+        }
+        if (entries.size() >= maximumSize) {
+            evict();
+        }
+        entries.put(key, new CachedValue<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * 조회마다 전체를 훑지 않도록 한 번에 최대 개수의 1/10 만큼 비운다. 한 스레드만 정리하고, 나머지는 기다리지 않고 저장한다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+            int excess = entries.size() - (maximumSize - evictionBatchSize);
+            if (excess <= 0) {
+                return;
+            }
+
+            PriorityQueue<Map.Entry<K, CachedValue<V>>> soonestToExpire = new PriorityQueue<>(excess + 1,
+                    Comparator.comparingLong((Map.Entry<K, CachedValue<V>> entry) -> entry.getValue().expiresAt - now).reversed());
+            for (Map.Entry<K, CachedValue<V>> entry : entries.entrySet()) {
+                soonestToExpire.add(entry);
+                if (soonestToExpire.size() > excess) {
+                    soonestToExpire.poll();
+                }
+            }
+            soonestToExpire.forEach(entry -> entries.remove(entry.getKey(), entry.getValue()));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class CachedValue<V> {
+        private final V value;
+        private final long expiresAt;
+
+        CachedValue(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package cholog.auth.infrastructure;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * key 별 토큰 버킷을 GCRA 방식으로 구현한다. 버킷마다 다음 토큰이 채워지는 시각(TAT) 하나만 AtomicLong 으로 두고 CAS 로 갱신한다.
+ * 버킷 수가 maximumSize 에 이르면 가득 찬 버킷을 지우고, 그래도 모자라면 가득 찬 상태에 가장 가까운 버킷부터 maximumSize 의 1/10 만큼 지운다.
+ * 새 key 끼리 버킷을 나눠 쓰지 않으므로 key 를 바꿔 가며 보내는 요청이 다른 사용자의 버킷을 비우지 못한다.
+ */
+public class TokenBucketRateLimiter {
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final int maximumSize;
+    private final int evictionBatchSize;
+    private final LongSupplier nanoTime;
+
+    public TokenBucketRateLimiter(int capacity, long refillIntervalNanos, int maximumSize) {
+        this(capacity, refillIntervalNanos, maximumSize, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(int capacity, long refillIntervalNanos, int maximumSize, LongSupplier nanoTime) {
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.maximumSize = maximumSize;
+        this.evictionBatchSize = Math.max(1, maximumSize / 10);
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 토큰 하나를 사용한다. 허용되면 0 을, 거절되면 다음 토큰까지 기다려야 하는 시간(ns)을 반환한다.
+     */
+    public long tryAcquire(String key) {
+        AtomicLong bucket = bucketOf(key);
+        long now = nanoTime.getAsLong();
+        while (true) {
+            long tat = bucket.get();
+            long newTat = start(tat, now) + refillIntervalNanos;
+            long waitNanos = newTat - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 토큰을 사용하지 않고, tryAcquire 를 호출하면 기다려야 할 시간(ns)만 계산한다.
+     */
+    public long waitNanos(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0;
+        }
+        long now = nanoTime.getAsLong();
+        return Math.max(0, start(bucket.get(), now) + refillIntervalNanos - now - burstNanos);
+    }
+
+    /**
+     * tryAcquire 로 사용한 토큰 하나를 돌려준다.
+     */
+    public void refund(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        long tat;
+        do {
+            tat = bucket.get();
+            if (tat == Long.MIN_VALUE) {
+                return;
+            }
+        } while (!bucket.compareAndSet(tat, tat - refillIntervalNanos));
+    }
+
+    /**
+     * 버킷이 가득 찬 상태로 돌아온 key 는 새 버킷과 구별되지 않으므로 제거한다.
+     */
+    public void removeIdleBuckets() {
+        long now = nanoTime.getAsLong();
+        buckets.values().removeIf(bucket -> isIdle(bucket.get(), now));
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucketOf(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maximumSize) {
+            evict();
+        }
+        return buckets.computeIfAbsent(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+    }
+
+    /**
+     * 한 스레드만 정리하고, 정리 중에 들어온 새 key 는 기다리지 않고 버킷을 만든다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            removeIdleBuckets();
+            int excess = buckets.size() - (maximumSize - evictionBatchSize);
+            if (excess <= 0) {
+                return;
+            }
+
+            PriorityQueue<Map.Entry<String, AtomicLong>> nearlyIdle = new PriorityQueue<>(excess + 1,
+                    Comparator.comparingLong((Map.Entry<String, AtomicLong> entry) -> entry.getValue().get()).reversed());
+            for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+                nearlyIdle.add(entry);
+                if (nearlyIdle.size() > excess) {
+                    nearlyIdle.poll();
+                }
+            }
+            nearlyIdle.forEach(entry -> buckets.remove(entry.getKey(), entry.getValue()));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private long start(long tat, long now) {
+        return tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+    }
+
+    private boolean isIdle(long tat, long now) {
+        return tat == Long.MIN_VALUE || tat - now <= 0;
+    }
+}
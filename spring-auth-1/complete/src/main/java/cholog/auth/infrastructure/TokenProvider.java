@@ -0,0 +1,19 @@
+package cholog.auth.infrastructure;
+
+public interface TokenProvider {
+    String createToken(String payload);
+
+    /**
+     * 검증에 실패해도 예외를 던지지 않고 실패 사유를 담은 결과를 반환한다.
+     */
+    TokenVerification tryVerify(String token);
+
+    /**
+     * 토큰을 만료 전에 무효화한다. 유효하지 않은 토큰이면 false 를 반환한다.
+     */
+    boolean revoke(String token);
+
+    default VerifiedClaims verify(String token) {
+        return tryVerify(token).getClaimsOrThrow();
+    }
+}
@@ -0,0 +1,135 @@
+package cholog.auth.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰의 jti 와 만료 시각(epoch seconds)을 보관한다.
+ * 조회는 Bloom filter 를 먼저 확인하므로, 폐기되지 않은 대부분의 토큰은 map 조회 없이 메모리의 비트 몇 개만 읽고 끝난다.
+ * 폐기 기록은 "jti exp" 형식의 로그 파일에 덧붙이고, 시작할 때 로그를 다시 읽어 복구한다.
+ * 만료된 엔트리는 주기적으로 제거하며, 이때 Bloom filter 와 로그도 남은 엔트리로 다시 만든다.
+ */
+@Component
+public class TokenRevocationStore {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final int expectedInsertions;
+    private final Path logPath;
+    private final Clock clock;
+    private volatile BloomFilter bloomFilter;
+
+    public TokenRevocationStore(@Value("${security.token.revocation.expected-insertions}") int expectedInsertions,
+                                @Value("${security.token.revocation.log-path:}") String logPath) {
+        this(expectedInsertions, logPath == null || logPath.isBlank() ? null : Path.of(logPath), Clock.systemUTC());
+    }
+
+    public TokenRevocationStore(int expectedInsertions, Path logPath, Clock clock) {
+        this.expectedInsertions = expectedInsertions;
+        this.logPath = logPath;
+        this.clock = clock;
+        this.bloomFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+        replay();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        if (expiresAt <= clock.instant().getEpochSecond() || revoked.putIfAbsent(tokenId, expiresAt) != null) {
+            return;
+        }
+        bloomFilter.add(tokenId);
+        append(tokenId + ' ' + expiresAt + '\n');
+    }
+
+    @Scheduled(fixedDelayString = "${security.token.revocation.sweep-interval}")
+    public synchronized void removeExpired() {
+        long now = clock.instant().getEpochSecond();
+        if (!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            return;
+        }
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size()), FALSE_POSITIVE_PROBABILITY);
+        revoked.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+        compactLog();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void replay() {
+        if (logPath == null || !Files.exists(logPath)) {
+            return;
+        }
+        long now = clock.instant().getEpochSecond();
+        try {
+            for (String line : Files.readAllLines(logPath, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator <= 0) {
+                    continue;
+                }
+                String tokenId = line.substring(0, separator);
+                long expiresAt;
+                try {
+                    expiresAt = Long.parseLong(line.substring(separator + 1).trim());
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (expiresAt > now && revoked.putIfAbsent(tokenId, expiresAt) == null) {
+                    bloomFilter.add(tokenId);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        compactLog();
+    }
+
+    private void append(String line) {
+        if (logPath == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(logPath.toAbsolutePath().getParent());
+            Files.writeString(logPath, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void compactLog() {
+        if (logPath == null) {
+            return;
+        }
+        List<String> lines = new ArrayList<>(revoked.size());
+        revoked.forEach((tokenId, expiresAt) -> lines.add(tokenId + ' ' + expiresAt));
+        try {
+            Files.createDirectories(logPath.toAbsolutePath().getParent());
+            Path temp = logPath.resolveSibling(logPath.getFileName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
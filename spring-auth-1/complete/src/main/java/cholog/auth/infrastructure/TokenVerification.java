@@ -0,0 +1,52 @@
+package cholog.auth.infrastructure;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 토큰 검증 결과. 실패 결과는 사유별로 미리 만들어 두므로 거절 경로에서 예외나 객체를 만들지 않는다.
+ */
+public final class TokenVerification {
+    private static final Map<InvalidTokenException.Reason, TokenVerification> FAILURES = new EnumMap<>(InvalidTokenException.Reason.class);
+
+    static {
+        for (InvalidTokenException.Reason reason : InvalidTokenException.Reason.values()) {
+            FAILURES.put(reason, new TokenVerification(null, reason));
+        }
+    }
+
+    private final VerifiedClaims claims;
+    private final InvalidTokenException.Reason failureReason;
+
+    private TokenVerification(VerifiedClaims claims, InvalidTokenException.Reason failureReason) {
+        this.claims = claims;
+        this.failureReason = failureReason;
+    }
+
+    public static TokenVerification success(VerifiedClaims claims) {
+        return new TokenVerification(claims, null);
+    }
+
+    public static TokenVerification failure(InvalidTokenException.Reason reason) {
+        return FAILURES.get(reason);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+
+    public VerifiedClaims getClaims() {
+        return claims;
+    }
+
+    public InvalidTokenException.Reason getFailureReason() {
+        return failureReason;
+    }
+
+    public VerifiedClaims getClaimsOrThrow() {
+        if (claims == null) {
+            throw new InvalidTokenException(failureReason);
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,44 @@
+package cholog.auth.infrastructure;
+
+import java.time.Instant;
+
+public final class VerifiedClaims {
+    private final String tokenId;
+    private final String subject;
+    private final Instant issuedAt;
+    private final Instant expiration;
+
+    public VerifiedClaims(String subject, Instant issuedAt, Instant expiration) {
+        this(null, subject, issuedAt, expiration);
+    }
+
+    public VerifiedClaims(String tokenId, String subject, Instant issuedAt, Instant expiration) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+    }
+
+    /**
+     * jti claim. jti 없이 발급된 토큰은 null 이다.
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiration() {
+        return expiration;
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiration != null && !expiration.isAfter(now);
+    }
+}
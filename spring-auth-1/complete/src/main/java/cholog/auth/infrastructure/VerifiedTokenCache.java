@@ -0,0 +1,134 @@
+package cholog.auth.infrastructure;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검증이 끝난 토큰의 claims 를 토큰 문자열을 key 로 보관한다.
+ * 엔트리는 토큰의 exp 이후로는 절대 반환되지 않으며, 최대 개수에 이르면 만료가 임박한 엔트리부터 묶어서 제거한다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Map<String, VerifiedClaims> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maximumSize;
+    private final int evictionBatchSize;
+    private final Clock clock;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${security.jwt.token.cache.maximum-size:10000}") int maximumSize) {
+        this(maximumSize, Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(int maximumSize, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.evictionBatchSize = Math.max(1, maximumSize / 10);
+        this.clock = clock;
+    }
+
+    public VerifiedClaims get(String token) {
+        VerifiedClaims claims = entries.get(token);
+        if (claims == null) {
+            missCount.increment();
+            return null;
+        }
+
+        if (claims.isExpiredAt(clock.instant())) {
+            if (entries.remove(token, claims)) {
+                evictionCount.increment();
+            }
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        return claims;
+    }
+
+    public void put(String token, VerifiedClaims claims) {
+        if (maximumSize <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+
+        if (entries.size() >= maximumSize) {
+            evict();
+        }
+        entries.put(token, claims);
+    }
+
+    public void invalidate(String token) {
+        entries.remove(token);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 가득 찰 때마다 전체를 훑지 않도록, 만료된 엔트리를 모두 지우고 만료가 임박한 엔트리를 최대 개수의 1/10 만큼 한꺼번에 지운다.
+     * 한 스레드만 정리하고, 정리 중에 들어온 put 은 기다리지 않고 저장한다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            evictExpiredAndSoonest();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evictExpiredAndSoonest() {
+        Instant now = clock.instant();
+        entries.entrySet().removeIf(entry -> {
+            boolean expired = !entry.getValue().getExpiration().isAfter(now);
+            if (expired) {
+                evictionCount.increment();
+            }
+            return expired;
+        });
+
+        int excess = entries.size() - (maximumSize - evictionBatchSize);
+        if (excess <= 0) {
+            return;
+        }
+        PriorityQueue<Map.Entry<String, VerifiedClaims>> soonestToExpire = new PriorityQueue<>(excess + 1,
+                Comparator.comparing((Map.Entry<String, VerifiedClaims> entry) -> entry.getValue().getExpiration()).reversed());
+        for (Map.Entry<String, VerifiedClaims> entry : entries.entrySet()) {
+            soonestToExpire.add(entry);
+            if (soonestToExpire.size() > excess) {
+                soonestToExpire.poll();
+            }
+        }
+        for (Map.Entry<String, VerifiedClaims> entry : soonestToExpire) {
+            if (entries.remove(entry.getKey(), entry.getValue())) {
+                evictionCount.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package cholog.auth.infrastructure.session;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * auth_session, auth_session_attribute 테이블(session-schema.sql)에 세션을 저장한다. upsert 는 H2 의 MERGE INTO ... KEY 문법을 사용한다.
+ */
+public class JdbcSessionRepository implements SessionRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<SessionRecord> sessionRowMapper = (resultSet, rowNum) -> new SessionRecord(
+            resultSet.getString("id"),
+            resultSet.getLong("creation_time"),
+            resultSet.getLong("last_accessed_time"),
+            resultSet.getInt("max_inactive_interval")
+    );
+
+    public JdbcSessionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public SessionRecord findById(String id) {
+        String sql = "select id, creation_time, last_accessed_time, max_inactive_interval from auth_session where id = ?";
+        List<SessionRecord> records = jdbcTemplate.query(sql, sessionRowMapper, id);
+        return records.isEmpty() ? null : records.get(0);
+    }
+
+    @Override
+    public void save(SessionRecord record) {
+        String sql = "merge into auth_session (id, creation_time, last_accessed_time, max_inactive_interval) key (id) values (?, ?, ?, ?)";
+        jdbcTemplate.update(sql, record.getId(), record.getCreationTime(), record.getLastAccessedTime(), record.getMaxInactiveInterval());
+    }
+
+    @Override
+    public byte[] findAttribute(String id, String name) {
+        String sql = "select attribute_value from auth_session_attribute where session_id = ? and name = ?";
+        List<byte[]> values = jdbcTemplate.query(sql, (resultSet, rowNum) -> resultSet.getBytes("attribute_value"), id, name);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Set<String> findAttributeNames(String id) {
+        String sql = "select name from auth_session_attribute where session_id = ?";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, id));
+    }
+
+    @Override
+    public void saveAttributes(String id, Map<String, byte[]> attributes) {
+        List<Object[]> upserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        attributes.forEach((name, value) -> {
+            if (value == null) {
+                deletes.add(new Object[]{id, name});
+            } else {
+                upserts.add(new Object[]{id, name, value});
+            }
+        });
+
+        if (!upserts.isEmpty()) {
+            String sql = "merge into auth_session_attribute (session_id, name, attribute_value) key (session_id, name) values (?, ?, ?)";
+            jdbcTemplate.batchUpdate(sql, upserts);
+        }
+        if (!deletes.isEmpty()) {
+            String sql = "delete from auth_session_attribute where session_id = ? and name = ?";
+            jdbcTemplate.batchUpdate(sql, deletes);
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        String sql = "delete from auth_session where id = ?";
+        jdbcTemplate.update(sql, id);
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        String sql = "delete from auth_session where max_inactive_interval > 0 and last_accessed_time + cast(max_inactive_interval as bigint) * 1000 <= ?";
+        return jdbcTemplate.update(sql, now);
+    }
+}
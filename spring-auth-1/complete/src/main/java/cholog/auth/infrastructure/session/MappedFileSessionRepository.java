@@ -0,0 +1,406 @@
+package cholog.auth.infrastructure.session;
+
+import sun.misc.Unsafe;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 매핑한 파일에 세션 변경 내역을 로그 형태로 덧붙여 저장한다.
+ * 힙에는 세션 메타데이터와 속성 값의 파일 내 위치만 두고, 속성 값은 읽을 때 파일에서 가져온다.
+ * 재시작하면 로그를 처음부터 재생해 색인을 복구하고, 파일이 가득 차면 살아있는 세션만 새 파일로 옮겨 적는다.
+ *
+ * 레코드 형식: [type][body...] — type 은 body 를 다 쓴 뒤에 기록하므로 중간에 끊긴 레코드는 END 로 읽힌다.
+ */
+public class MappedFileSessionRepository implements SessionRepository, Closeable {
+    private static final byte END = 0;
+    private static final byte SESSION = 1;
+    private static final byte ATTRIBUTE = 2;
+    private static final byte ATTRIBUTE_REMOVED = 3;
+    private static final byte SESSION_DELETED = 4;
+
+    private final Path path;
+    private final int capacity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, StoredSession> sessions = new HashMap<>();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+
+    public MappedFileSessionRepository(Path path, int capacity) throws IOException {
+        this.path = path;
+        this.capacity = capacity;
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.position = replay();
+    }
+
+    @Override
+    public SessionRecord findById(String id) {
+        lock.readLock().lock();
+        try {
+            StoredSession session = sessions.get(id);
+            return session == null ? null : session.record;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void save(SessionRecord record) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(sessionRecordSize(record.getId()));
+            position = writeSession(buffer, position, record);
+            sessions.computeIfAbsent(record.getId(), id -> new StoredSession()).record = record;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public byte[] findAttribute(String id, String name) {
+        lock.readLock().lock();
+        try {
+            StoredSession session = sessions.get(id);
+            Long location = session == null ? null : session.attributes.get(name);
+            if (location == null) {
+                return null;
+            }
+            byte[] value = new byte[length(location)];
+            buffer.get(offset(location), value);
+            return value;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<String> findAttributeNames(String id) {
+        lock.readLock().lock();
+        try {
+            StoredSession session = sessions.get(id);
+            return session == null ? Set.of() : new HashSet<>(session.attributes.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAttributes(String id, Map<String, byte[]> attributes) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, byte[]> attribute : attributes.entrySet()) {
+                String name = attribute.getKey();
+                byte[] value = attribute.getValue();
+                ensureCapacity(value == null ? attributeRemovedRecordSize(id, name) : attributeRecordSize(id, name, value));
+
+                StoredSession session = sessions.get(id);
+                if (session == null) {
+                    return;
+                }
+                if (value == null) {
+                    position = writeAttributeRemoved(buffer, position, id, name);
+                    session.attributes.remove(name);
+                } else {
+                    long location = writeAttribute(buffer, position, id, name, value);
+                    position = offset(location) + length(location);
+                    session.attributes.put(name, location);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        lock.writeLock().lock();
+        try {
+            delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int deleteExpired(long now) {
+        lock.writeLock().lock();
+        try {
+            List<String> expiredIds = new ArrayList<>();
+            sessions.forEach((id, session) -> {
+                if (session.record.isExpiredAt(now)) {
+                    expiredIds.add(id);
+                }
+            });
+            expiredIds.forEach(this::delete);
+            return expiredIds.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(String id) {
+        if (sessions.remove(id) == null) {
+            return;
+        }
+        ensureCapacity(sessionDeletedRecordSize(id));
+        position = writeSessionDeleted(buffer, position, id);
+    }
+
+    private void ensureCapacity(int recordSize) {
+        if (position + recordSize <= capacity) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (position + recordSize > capacity) {
+            throw new IllegalStateException("세션 저장 파일의 용량이 부족합니다: " + path);
+        }
+    }
+
+    /**
+     * 살아있는 세션과 속성만 새 파일에 옮겨 적은 뒤 기존 파일을 교체한다.
+     */
+    private void compact() throws IOException {
+        Path compactPath = path.resolveSibling(path.getFileName() + ".compact");
+        Files.deleteIfExists(compactPath);
+
+        FileChannel compactChannel = FileChannel.open(compactPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer compactBuffer = compactChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        Map<String, StoredSession> compacted = new HashMap<>();
+        int compactPosition = 0;
+        try {
+            for (Map.Entry<String, StoredSession> entry : sessions.entrySet()) {
+                String id = entry.getKey();
+                StoredSession session = entry.getValue();
+                StoredSession moved = new StoredSession();
+                moved.record = session.record;
+
+                compactPosition = writeSession(compactBuffer, compactPosition, session.record);
+                for (Map.Entry<String, Long> attribute : session.attributes.entrySet()) {
+                    byte[] value = new byte[length(attribute.getValue())];
+                    buffer.get(offset(attribute.getValue()), value);
+
+                    long location = writeAttribute(compactBuffer, compactPosition, id, attribute.getKey(), value);
+                    compactPosition = offset(location) + length(location);
+                    moved.attributes.put(attribute.getKey(), location);
+                }
+                compacted.put(id, moved);
+            }
+        } catch (BufferOverflowException | IndexOutOfBoundsException e) {
+            compactChannel.close();
+            Files.deleteIfExists(compactPath);
+            throw new IllegalStateException("세션 저장 파일의 용량이 부족합니다: " + path, e);
+        }
+        compactBuffer.force();
+
+        FileChannel oldChannel = channel;
+        MappedByteBuffer oldBuffer = buffer;
+        channel = compactChannel;
+        buffer = compactBuffer;
+        oldChannel.close();
+        unmap(oldBuffer);
+        Files.move(compactPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        position = compactPosition;
+        sessions.clear();
+        sessions.putAll(compacted);
+    }
+
+    /**
+     * 채널을 닫아도 매핑은 GC 가 버퍼를 회수할 때까지 남으므로, 교체한 버퍼는 바로 해제한다.
+     * 쓰기 락 안에서 이미 새 버퍼로 바꾼 뒤에 호출하므로 해제한 버퍼를 읽는 스레드는 없다.
+     */
+    private static void unmap(MappedByteBuffer mapped) {
+        try {
+            Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            ((Unsafe) theUnsafe.get(null)).invokeCleaner(mapped);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // 해제할 수 없는 JVM 에서는 GC 에 맡긴다.
+        }
+    }
+
+    private int replay() {
+        ByteBuffer in = buffer.duplicate();
+        int offset = 0;
+        while (offset < capacity && in.get(offset) != END) {
+            in.position(offset + 1);
+            try {
+                byte type = in.get(offset);
+                String id = readString(in);
+                switch (type) {
+                    case SESSION -> {
+                        SessionRecord record = new SessionRecord(id, in.getLong(), in.getLong(), in.getInt());
+                        sessions.computeIfAbsent(id, key -> new StoredSession()).record = record;
+                    }
+                    case ATTRIBUTE -> {
+                        String name = readString(in);
+                        int length = in.getInt();
+                        int valueOffset = in.position();
+                        in.position(valueOffset + length);
+                        StoredSession session = sessions.get(id);
+                        if (session != null) {
+                            session.attributes.put(name, location(valueOffset, length));
+                        }
+                    }
+                    case ATTRIBUTE_REMOVED -> {
+                        String name = readString(in);
+                        StoredSession session = sessions.get(id);
+                        if (session != null) {
+                            session.attributes.remove(name);
+                        }
+                    }
+                    case SESSION_DELETED -> sessions.remove(id);
+                    default -> {
+                        return offset;
+                    }
+                }
+            } catch (RuntimeException e) {
+                return offset;
+            }
+            offset = in.position();
+        }
+        return offset;
+    }
+
+    private static int writeSession(ByteBuffer target, int offset, SessionRecord record) {
+        ByteBuffer out = body(target, offset);
+        writeString(out, record.getId());
+        out.putLong(record.getCreationTime());
+        out.putLong(record.getLastAccessedTime());
+        out.putInt(record.getMaxInactiveInterval());
+        return seal(target, offset, out, SESSION);
+    }
+
+    private static long writeAttribute(ByteBuffer target, int offset, String id, String name, byte[] value) {
+        ByteBuffer out = body(target, offset);
+        writeString(out, id);
+        writeString(out, name);
+        out.putInt(value.length);
+        int valueOffset = out.position();
+        out.put(value);
+        seal(target, offset, out, ATTRIBUTE);
+        return location(valueOffset, value.length);
+    }
+
+    private static int writeAttributeRemoved(ByteBuffer target, int offset, String id, String name) {
+        ByteBuffer out = body(target, offset);
+        writeString(out, id);
+        writeString(out, name);
+        return seal(target, offset, out, ATTRIBUTE_REMOVED);
+    }
+
+    private static int writeSessionDeleted(ByteBuffer target, int offset, String id) {
+        ByteBuffer out = body(target, offset);
+        writeString(out, id);
+        return seal(target, offset, out, SESSION_DELETED);
+    }
+
+    private static ByteBuffer body(ByteBuffer target, int offset) {
+        ByteBuffer out = target.duplicate();
+        out.position(offset + 1);
+        return out;
+    }
+
+    /**
+     * 다음 레코드 자리를 END 로 표시한 뒤 마지막으로 type 을 기록해 레코드를 유효하게 만든다.
+     */
+    private static int seal(ByteBuffer target, int offset, ByteBuffer out, byte type) {
+        int end = out.position();
+        if (end < target.capacity()) {
+            target.put(end, END);
+        }
+        target.put(offset, type);
+        return end;
+    }
+
+    private static void writeString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int sessionRecordSize(String id) {
+        return 1 + stringSize(id) + Long.BYTES * 2 + Integer.BYTES;
+    }
+
+    private static int attributeRecordSize(String id, String name, byte[] value) {
+        return 1 + stringSize(id) + stringSize(name) + Integer.BYTES + value.length;
+    }
+
+    private static int attributeRemovedRecordSize(String id, String name) {
+        return 1 + stringSize(id) + stringSize(name);
+    }
+
+    private static int sessionDeletedRecordSize(String id) {
+        return 1 + stringSize(id);
+    }
+
+    private static int stringSize(String value) {
+        return Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static long location(int offset, int length) {
+        return ((long) offset << 32) | (length & 0xFFFFFFFFL);
+    }
+
+    private static int offset(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int length(long location) {
+        return (int) location;
+    }
+
+    private static final class StoredSession {
+        private SessionRecord record;
+        private final Map<String, Long> attributes = new HashMap<>();
+    }
+}
@@ -0,0 +1,193 @@
+package cholog.auth.infrastructure.session;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpSession;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 요청 동안 사용하는 SessionRepository 기반 HttpSession.
+ * 속성은 처음 읽을 때 저장소에서 가져오고, 변경된 속성만 모아 두었다가 commit 시점에 한 번에 저장한다.
+ */
+public class RepositoryHttpSession implements HttpSession {
+    private static final long TOUCH_INTERVAL_MILLIS = 60_000;
+
+    private final SessionRepository repository;
+    private final ServletContext servletContext;
+    private final boolean isNew;
+    private final Map<String, Object> loadedAttributes = new HashMap<>();
+    private final Set<String> dirtyAttributeNames = new HashSet<>();
+
+    private SessionRecord record;
+    private boolean recordDirty;
+    private boolean persisted;
+    private boolean invalidated;
+
+    public RepositoryHttpSession(SessionRepository repository, ServletContext servletContext, SessionRecord record, boolean isNew) {
+        this.repository = repository;
+        this.servletContext = servletContext;
+        this.record = record;
+        this.isNew = isNew;
+        this.recordDirty = isNew;
+        this.persisted = !isNew;
+    }
+
+    @Override
+    public long getCreationTime() {
+        checkValid();
+        return record.getCreationTime();
+    }
+
+    @Override
+    public String getId() {
+        return record.getId();
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        checkValid();
+        return record.getLastAccessedTime();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        record = record.withMaxInactiveInterval(interval);
+        recordDirty = true;
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        return record.getMaxInactiveInterval();
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        checkValid();
+        if (loadedAttributes.containsKey(name)) {
+            return loadedAttributes.get(name);
+        }
+
+        Object value = persisted ? SessionAttributeCodec.decode(repository.findAttribute(getId(), name)) : null;
+        loadedAttributes.put(name, value);
+        return value;
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        checkValid();
+        Set<String> names = persisted ? new HashSet<>(repository.findAttributeNames(getId())) : new HashSet<>();
+        loadedAttributes.forEach((name, value) -> {
+            if (value == null) {
+                names.remove(name);
+            } else {
+                names.add(name);
+            }
+        });
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        checkValid();
+        if (value == null) {
+            removeAttribute(name);
+            return;
+        }
+        loadedAttributes.put(name, value);
+        dirtyAttributeNames.add(name);
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        checkValid();
+        loadedAttributes.put(name, null);
+        dirtyAttributeNames.add(name);
+    }
+
+    @Override
+    public void invalidate() {
+        checkValid();
+        if (persisted) {
+            repository.deleteById(getId());
+        }
+        invalidated = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        checkValid();
+        return isNew;
+    }
+
+    /**
+     * 세션 고정 공격을 막기 위해 메타데이터와 속성을 새 ID 로 옮기고 이전 ID 는 삭제한다.
+     * 아직 저장되지 않은 새 세션은 ID 만 바꾼다.
+     */
+    void changeId(String newId) {
+        checkValid();
+        String oldId = getId();
+        SessionRecord moved = record.withId(newId);
+        if (persisted) {
+            Map<String, byte[]> attributes = new LinkedHashMap<>();
+            for (String name : Collections.list(getAttributeNames())) {
+                attributes.put(name, loadedAttributes.containsKey(name)
+                        ? SessionAttributeCodec.encode(loadedAttributes.get(name))
+                        : repository.findAttribute(oldId, name));
+            }
+            repository.save(moved);
+            repository.saveAttributes(newId, attributes);
+            repository.deleteById(oldId);
+            dirtyAttributeNames.clear();
+            recordDirty = false;
+        }
+        record = moved;
+    }
+
+    public boolean isInvalidated() {
+        return invalidated;
+    }
+
+    /**
+     * 변경된 메타데이터와 속성만 저장소에 쓴다. 한 요청에서 여러 번 호출되어도 바뀐 것이 없으면 아무것도 쓰지 않는다.
+     */
+    public void commit(long now) {
+        if (invalidated) {
+            return;
+        }
+
+        if (recordDirty || now - record.getLastAccessedTime() >= TOUCH_INTERVAL_MILLIS) {
+            record = record.withLastAccessedTime(now);
+            repository.save(record);
+            recordDirty = false;
+            persisted = true;
+        }
+
+        if (dirtyAttributeNames.isEmpty()) {
+            return;
+        }
+        Map<String, byte[]> attributes = new LinkedHashMap<>();
+        for (String name : dirtyAttributeNames) {
+            Object value = loadedAttributes.get(name);
+            attributes.put(name, value == null ? null : SessionAttributeCodec.encode(value));
+        }
+        repository.saveAttributes(getId(), attributes);
+        dirtyAttributeNames.clear();
+    }
+
+    private void checkValid() {
+        if (invalidated) {
+            throw new IllegalStateException("이미 만료된 세션입니다.");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package cholog.auth.infrastructure.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 세션 속성을 1바이트 타입 태그 + 값으로 인코딩한다.
+ * 자주 쓰는 String, Long, Integer, Boolean 은 고정 형식으로 쓰고, 그 밖의 값만 Java 직렬화를 사용한다.
+ */
+public final class SessionAttributeCodec {
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte SERIALIZED = 0x7F;
+
+    private SessionAttributeCodec() {
+    }
+
+    public static byte[] encode(Object value) {
+        if (value instanceof String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            byte[] encoded = new byte[bytes.length + 1];
+            encoded[0] = STRING;
+            System.arraycopy(bytes, 0, encoded, 1, bytes.length);
+            return encoded;
+        }
+        if (value instanceof Long number) {
+            return ByteBuffer.allocate(Long.BYTES + 1).put(LONG).putLong(number).array();
+        }
+        if (value instanceof Integer number) {
+            return ByteBuffer.allocate(Integer.BYTES + 1).put(INTEGER).putInt(number).array();
+        }
+        if (value instanceof Boolean bool) {
+            return new byte[]{BOOLEAN, (byte) (bool ? 1 : 0)};
+        }
+        if (value instanceof Serializable) {
+            return serialize(value);
+        }
+        throw new IllegalArgumentException("세션 속성으로 저장할 수 없는 타입입니다: " + value.getClass().getName());
+    }
+
+    public static Object decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return null;
+        }
+
+        return switch (encoded[0]) {
+            case STRING -> new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+            case LONG -> ByteBuffer.wrap(encoded, 1, Long.BYTES).getLong();
+            case INTEGER -> ByteBuffer.wrap(encoded, 1, Integer.BYTES).getInt();
+            case BOOLEAN -> encoded[1] != 0;
+            case SERIALIZED -> deserialize(encoded);
+            default -> throw new IllegalArgumentException("알 수 없는 세션 속성 타입입니다: " + encoded[0]);
+        };
+    }
+
+    private static byte[] serialize(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(SERIALIZED);
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object deserialize(byte[] encoded) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(encoded, 1, encoded.length - 1))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package cholog.auth.infrastructure.session;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 응답이 클라이언트로 커밋되기 직전에 세션 변경 사항을 저장한다.
+ * 로그인 응답을 받은 클라이언트가 곧바로 보낸 다음 요청에서도 세션이 조회되도록 하기 위함이다.
+ * 컨테이너는 버퍼가 차거나 Content-Length 만큼 쓰였을 때 flush 없이도 응답을 커밋하므로, 본문의 첫 바이트를 쓰기 전에도 저장한다.
+ */
+class SessionCommittingResponseWrapper extends HttpServletResponseWrapper {
+    private final Runnable onCommit;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+    private boolean bodyStarted;
+
+    SessionCommittingResponseWrapper(HttpServletResponse response, Runnable onCommit) {
+        super(response);
+        this.onCommit = onCommit;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        onCommit.run();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        onCommit.run();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        onCommit.run();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        onCommit.run();
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CommittingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(super.getWriter()) {
+                @Override
+                public void write(int c) {
+                    beforeWrite();
+                    super.write(c);
+                }
+
+                @Override
+                public void write(char[] buf, int off, int len) {
+                    beforeWrite();
+                    super.write(buf, off, len);
+                }
+
+                @Override
+                public void write(String s, int off, int len) {
+                    beforeWrite();
+                    super.write(s, off, len);
+                }
+
+                @Override
+                public void flush() {
+                    onCommit.run();
+                    super.flush();
+                }
+
+                @Override
+                public void close() {
+                    onCommit.run();
+                    super.close();
+                }
+            };
+        }
+        return writer;
+    }
+
+    private void beforeWrite() {
+        if (!bodyStarted) {
+            bodyStarted = true;
+            onCommit.run();
+        }
+    }
+
+    private class CommittingOutputStream extends ServletOutputStream {
+        private final ServletOutputStream delegate;
+
+        private CommittingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            beforeWrite();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            beforeWrite();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            onCommit.run();
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            onCommit.run();
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package cholog.auth.infrastructure.session;
+
+public final class SessionRecord {
+    private final String id;
+    private final long creationTime;
+    private final long lastAccessedTime;
+    private final int maxInactiveInterval;
+
+    public SessionRecord(String id, long creationTime, long lastAccessedTime, int maxInactiveInterval) {
+        this.id = id;
+        this.creationTime = creationTime;
+        this.lastAccessedTime = lastAccessedTime;
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    public SessionRecord withId(String id) {
+        return new SessionRecord(id, creationTime, lastAccessedTime, maxInactiveInterval);
+    }
+
+    public SessionRecord withLastAccessedTime(long lastAccessedTime) {
+        return new SessionRecord(id, creationTime, lastAccessedTime, maxInactiveInterval);
+    }
+
+    public SessionRecord withMaxInactiveInterval(int maxInactiveInterval) {
+        return new SessionRecord(id, creationTime, lastAccessedTime, maxInactiveInterval);
+    }
+
+    /**
+     * maxInactiveInterval 은 서블릿 명세와 같이 초 단위이며, 0 이하이면 만료되지 않는다.
+     */
+    public boolean isExpiredAt(long now) {
+        return maxInactiveInterval > 0 && now - lastAccessedTime >= maxInactiveInterval * 1000L;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getCreationTime() {
+        return creationTime;
+    }
+
+    public long getLastAccessedTime() {
+        return lastAccessedTime;
+    }
+
+    public int getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+}
@@ -0,0 +1,27 @@
+package cholog.auth.infrastructure.session;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 세션 메타데이터와 속성을 서블릿 컨테이너 밖에 저장한다.
+ * 속성 값은 SessionAttributeCodec 으로 인코딩된 바이트 배열이며, 요청이 실제로 읽는 속성만 하나씩 조회한다.
+ */
+public interface SessionRepository {
+    SessionRecord findById(String id);
+
+    void save(SessionRecord record);
+
+    byte[] findAttribute(String id, String name);
+
+    Set<String> findAttributeNames(String id);
+
+    /**
+     * 값이 null 인 속성은 삭제한다.
+     */
+    void saveAttributes(String id, Map<String, byte[]> attributes);
+
+    void deleteById(String id);
+
+    int deleteExpired(long now);
+}
@@ -0,0 +1,38 @@
+package cholog.auth.infrastructure.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * request.getSession() 이 Tomcat 의 HttpSession 대신 SessionRepository 에 저장되는 세션을 돌려주도록 요청을 감싼다.
+ * 세션 ID 는 SESSION 쿠키로 주고받는다.
+ */
+public class SessionRepositoryFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "SESSION";
+
+    private final SessionRepository repository;
+    private final int maxInactiveInterval;
+
+    public SessionRepositoryFilter(SessionRepository repository, int maxInactiveInterval) {
+        this.repository = repository;
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SessionRepositoryRequestWrapper wrappedRequest = new SessionRepositoryRequestWrapper(request, response, repository, maxInactiveInterval);
+        SessionCommittingResponseWrapper wrappedResponse = new SessionCommittingResponseWrapper(response, wrappedRequest::commitSession);
+        try {
+            filterChain.doFilter(wrappedRequest, wrappedResponse);
+        } finally {
+            // 본문 없이 끝난 응답이나 본문을 쓴 뒤 바뀐 세션은 컨테이너가 응답을 마무리하기 전에 여기서 저장한다.
+            wrappedRequest.commitSession();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package cholog.auth.infrastructure.session;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+class SessionRepositoryRequestWrapper extends HttpServletRequestWrapper {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final int SESSION_ID_BYTES = 16;
+
+    private final HttpServletResponse response;
+    private final SessionRepository repository;
+    private final int maxInactiveInterval;
+
+    private RepositoryHttpSession session;
+    private boolean requestedSessionResolved;
+    private String requestedSessionId;
+    private SessionRecord requestedSession;
+
+    SessionRepositoryRequestWrapper(HttpServletRequest request, HttpServletResponse response,
+                                    SessionRepository repository, int maxInactiveInterval) {
+        super(request);
+        this.response = response;
+        this.repository = repository;
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (session != null && !session.isInvalidated()) {
+            return session;
+        }
+
+        SessionRecord record = session == null ? findRequestedSession() : null;
+        if (record != null) {
+            session = new RepositoryHttpSession(repository, getServletContext(), record, false);
+            return session;
+        }
+        if (!create) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        session = new RepositoryHttpSession(repository, getServletContext(), new SessionRecord(newSessionId(), now, now, maxInactiveInterval), true);
+        response.addCookie(sessionCookie(session.getId()));
+        return session;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        findRequestedSession();
+        return requestedSessionId;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return findRequestedSession() != null;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromCookie() {
+        return getRequestedSessionId() != null;
+    }
+
+    @Override
+    public boolean isRequestedSessionIdFromURL() {
+        return false;
+    }
+
+    @Override
+    public String changeSessionId() {
+        if (getSession(false) == null) {
+            throw new IllegalStateException("요청에 연결된 세션이 없습니다.");
+        }
+        session.changeId(newSessionId());
+        response.addCookie(sessionCookie(session.getId()));
+        return session.getId();
+    }
+
+    void commitSession() {
+        if (session != null) {
+            session.commit(System.currentTimeMillis());
+        }
+    }
+
+    private SessionRecord findRequestedSession() {
+        if (requestedSessionResolved) {
+            return requestedSession;
+        }
+        requestedSessionResolved = true;
+
+        requestedSessionId = readSessionCookie();
+        if (requestedSessionId == null) {
+            return null;
+        }
+
+        SessionRecord record = repository.findById(requestedSessionId);
+        if (record != null && record.isExpiredAt(System.currentTimeMillis())) {
+            repository.deleteById(requestedSessionId);
+            record = null;
+        }
+        requestedSession = record;
+        return record;
+    }
+
+    private String readSessionCookie() {
+        Cookie[] cookies = getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (SessionRepositoryFilter.COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Cookie sessionCookie(String sessionId) {
+        Cookie cookie = new Cookie(SessionRepositoryFilter.COOKIE_NAME, sessionId);
+        String contextPath = getContextPath();
+        cookie.setPath(contextPath == null || contextPath.isEmpty() ? "/" : contextPath);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(isSecure());
+        return cookie;
+    }
+
+    private static String newSessionId() {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+}
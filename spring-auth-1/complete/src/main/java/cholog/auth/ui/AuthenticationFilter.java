@@ -0,0 +1,88 @@
+package cholog.auth.ui;
+
+import cholog.auth.application.AuthService;
+import cholog.auth.dto.AuthInfo;
+import cholog.auth.infrastructure.BasicAuthorizationExtractor;
+import cholog.auth.infrastructure.BearerAuthorizationExtractor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Authorization 헤더의 scheme 에 따라 한 번만 인증하고, 확인된 사용자를 PRINCIPAL 요청 속성에 담는다.
+ * Basic 은 비밀번호 확인, Bearer 는 토큰 검증, 헤더가 없으면 세션의 로그인 정보를 사용한다.
+ * 인증에 실패하면 예외를 만들지 않고 미리 만들어 둔 401 응답을 바로 쓴다.
+ */
+public class AuthenticationFilter extends OncePerRequestFilter {
+    public static final String PRINCIPAL = AuthenticationFilter.class.getName() + ".PRINCIPAL";
+
+    private static final String BASIC_TYPE = "Basic";
+    private static final String BEARER_TYPE = "Bearer";
+    private static final byte[] UNAUTHORIZED_BODY = "{\"status\":401,\"error\":\"Unauthorized\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AuthService authService;
+    private final BasicAuthorizationExtractor basicExtractor = new BasicAuthorizationExtractor();
+    private final BearerAuthorizationExtractor bearerExtractor = new BearerAuthorizationExtractor();
+
+    public AuthenticationFilter(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String principal = authenticate(request);
+        if (principal == null) {
+            reject(response);
+            return;
+        }
+
+        request.setAttribute(PRINCIPAL, principal);
+        filterChain.doFilter(request, response);
+    }
+
+    private String authenticate(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null) {
+            return authenticateBySession(request);
+        }
+        if (header.regionMatches(true, 0, BASIC_TYPE, 0, BASIC_TYPE.length())) {
+            return authenticateByBasic(header);
+        }
+        if (header.regionMatches(true, 0, BEARER_TYPE, 0, BEARER_TYPE.length())) {
+            return authService.authenticateByToken(bearerExtractor.extract(header));
+        }
+        return null;
+    }
+
+    private String authenticateByBasic(String header) {
+        AuthInfo authInfo = basicExtractor.extract(header);
+        if (authInfo == null || authService.checkInvalidLogin(authInfo.getEmail(), authInfo.getPassword())) {
+            return null;
+        }
+        return authInfo.getEmail();
+    }
+
+    private String authenticateBySession(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        Object email = session.getAttribute(SessionLoginController.SESSION_KEY);
+        return email instanceof String ? (String) email : null;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(UNAUTHORIZED_BODY.length);
+        response.getOutputStream().write(UNAUTHORIZED_BODY);
+    }
+}
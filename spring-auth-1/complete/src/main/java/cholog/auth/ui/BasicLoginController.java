@@ -1,24 +1,20 @@
 package cholog.auth.ui;
 
 import cholog.auth.application.AuthService;
-import cholog.auth.application.AuthorizationException;
-import cholog.auth.dto.AuthInfo;
 import cholog.auth.dto.MemberResponse;
-import cholog.auth.infrastructure.AuthorizationExtractor;
-import cholog.auth.infrastructure.BasicAuthorizationExtractor;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public class BasicLoginController {
     private final AuthService authService;
-    private final AuthorizationExtractor<AuthInfo> authorizationExtractor;
+    private final MemberResponseCache memberResponseCache;
 
-    public BasicLoginController(AuthService authService) {
+    public BasicLoginController(AuthService authService, MemberResponseCache memberResponseCache) {
         this.authService = authService;
-        this.authorizationExtractor = new BasicAuthorizationExtractor();
+        this.memberResponseCache = memberResponseCache;
     }
 
     /**
@@ -29,16 +25,8 @@ public class BasicLoginController {
      * accept: application/json
      */
     @GetMapping("/members/me/basic")
-    public ResponseEntity<MemberResponse> findMyInfo(HttpServletRequest request) {
-        AuthInfo authInfo = authorizationExtractor.extract(request);
-        String email = authInfo.getEmail();
-        String password = authInfo.getPassword();
-
-        if (authService.checkInvalidLogin(email, password)) {
-            throw new AuthorizationException();
-        }
-
+    public ResponseEntity<byte[]> findMyInfo(@RequestAttribute(AuthenticationFilter.PRINCIPAL) String email) {
         MemberResponse member = authService.findMember(email);
-        return ResponseEntity.ok().body(member);
+        return memberResponseCache.ok(member);
     }
 }
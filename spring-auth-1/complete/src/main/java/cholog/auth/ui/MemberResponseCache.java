@@ -0,0 +1,93 @@
+package cholog.auth.ui;
+
+import cholog.auth.dto.MemberResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 id 별로 직렬화한 MemberResponse 와 strong ETag 를 보관한다.
+ * 회원 정보가 바뀌면 내용이 달라지므로 다시 직렬화하고, 같으면 Jackson 을 거치지 않고 보관한 byte[] 를 그대로 응답한다.
+ * If-None-Match 가 ETag 와 같으면 Spring 이 본문 없이 304 로 응답한다.
+ */
+@Component
+public class MemberResponseCache {
+    private static final int ETAG_BYTES = 16;
+
+    private final Map<Long, SerializedMember> entries = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final int maximumSize;
+
+    public MemberResponseCache(ObjectMapper objectMapper,
+                               @Value("${security.member.response-cache.maximum-size}") int maximumSize) {
+        this.objectMapper = objectMapper;
+        this.maximumSize = maximumSize;
+    }
+
+    public ResponseEntity<byte[]> ok(MemberResponse member) {
+        SerializedMember serialized = serialize(member);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(serialized.eTag)
+                .body(serialized.body);
+    }
+
+    private SerializedMember serialize(MemberResponse member) {
+        SerializedMember cached = entries.get(member.getId());
+        if (cached != null && cached.isSerializedFrom(member)) {
+            return cached;
+        }
+
+        SerializedMember serialized = new SerializedMember(member, write(member));
+        if (entries.size() < maximumSize || entries.containsKey(member.getId())) {
+            entries.put(member.getId(), serialized);
+        }
+        return serialized;
+    }
+
+    private byte[] write(MemberResponse member) {
+        try {
+            return objectMapper.writeValueAsBytes(member);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String eTagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, ETAG_BYTES * 4 / 3) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SerializedMember {
+        private final MemberResponse source;
+        private final byte[] body;
+        private final String eTag;
+
+        SerializedMember(MemberResponse source, byte[] body) {
+            this.source = source;
+            this.body = body;
+            this.eTag = eTagOf(body);
+        }
+
+        boolean isSerializedFrom(MemberResponse member) {
+            return source == member
+                    || (Objects.equals(source.getEmail(), member.getEmail()) && Objects.equals(source.getAge(), member.getAge()));
+        }
+    }
+}
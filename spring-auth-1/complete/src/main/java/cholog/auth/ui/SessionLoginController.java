@@ -3,25 +3,33 @@ package cholog.auth.ui;
 import cholog.auth.application.AuthService;
 import cholog.auth.application.AuthorizationException;
 import cholog.auth.dto.MemberResponse;
+import cholog.auth.infrastructure.LoginRateLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
 @RestController
 public class SessionLoginController {
-    private static final String SESSION_KEY = "USER";
+    public static final String SESSION_KEY = "USER";
     private static final String USERNAME_FIELD = "email";
     private static final String PASSWORD_FIELD = "password";
 
     private final AuthService authService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final MemberResponseCache memberResponseCache;
 
-    public SessionLoginController(AuthService authService) {
+    public SessionLoginController(AuthService authService, LoginRateLimiter loginRateLimiter, MemberResponseCache memberResponseCache) {
         this.authService = authService;
+        this.loginRateLimiter = loginRateLimiter;
+        this.memberResponseCache = memberResponseCache;
     }
 
     /**
@@ -34,15 +42,29 @@ public class SessionLoginController {
      * email=email@email.com&password=1234
      */
     @PostMapping("/login/session")
-    public ResponseEntity<Void> sessionLogin(HttpServletRequest request, HttpSession session) {
+    public ResponseEntity<Void> sessionLogin(HttpServletRequest request) {
         Map<String, String[]> paramMap = request.getParameterMap();
         String email = paramMap.get(USERNAME_FIELD)[0];
         String password = paramMap.get(PASSWORD_FIELD)[0];
 
+        long retryAfter = loginRateLimiter.tryAcquire(email, request.getRemoteAddr());
+        if (retryAfter > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter))
+                    .build();
+        }
+
         if (authService.checkInvalidLogin(email, password)) {
             throw new AuthorizationException();
         }
 
+        // 인증에 성공한 뒤에만 세션을 만들고, 로그인 전부터 있던 세션은 ID 를 바꿔 세션 고정을 막는다.
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            session = request.getSession();
+        } else {
+            request.changeSessionId();
+        }
         session.setAttribute(SESSION_KEY, email);
 
         return ResponseEntity.ok().build();
@@ -56,9 +78,8 @@ public class SessionLoginController {
      * accept: application/json
      */
     @GetMapping("/members/me/session")
-    public ResponseEntity<MemberResponse> findMyInfo(HttpSession session) {
-        String email = (String) session.getAttribute(SESSION_KEY);
+    public ResponseEntity<byte[]> findMyInfo(@RequestAttribute(AuthenticationFilter.PRINCIPAL) String email) {
         MemberResponse member = authService.findMember(email);
-        return ResponseEntity.ok().body(member);
+        return memberResponseCache.ok(member);
     }
 }
@@ -0,0 +1,17 @@
+create table if not exists auth_session
+(
+    id                    varchar(64) not null,
+    creation_time         bigint      not null,
+    last_accessed_time    bigint      not null,
+    max_inactive_interval int         not null,
+    primary key (id)
+);
+
+create table if not exists auth_session_attribute
+(
+    session_id      varchar(64)  not null,
+    name            varchar(200) not null,
+    attribute_value blob         not null,
+    primary key (session_id, name),
+    foreign key (session_id) references auth_session (id) on delete cascade
+);
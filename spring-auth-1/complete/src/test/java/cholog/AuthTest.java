@@ -1,6 +1,8 @@
 package cholog;
 
 import cholog.auth.dto.MemberResponse;
+import cholog.auth.dto.TokenIntrospectionRequest;
+import cholog.auth.dto.TokenIntrospectionResponse;
 import cholog.auth.dto.TokenRequest;
 import cholog.auth.dto.TokenResponse;
 import io.restassured.RestAssured;
@@ -11,6 +13,8 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -81,4 +85,88 @@ class AuthTest {
 
         assertThat(member.getEmail()).isEqualTo(EMAIL);
     }
-}
\ No newline at end of file
+
+    @Test
+    void rejectInvalidCredentials() {
+        RestAssured
+                .given().log().all()
+                .auth().preemptive().basic(EMAIL, "wrong")
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me/basic")
+                .then().log().all()
+                .statusCode(HttpStatus.UNAUTHORIZED.value());
+
+        RestAssured
+                .given().log().all()
+                .header("Authorization", "Bearer not-a-token")
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me/token")
+                .then().log().all()
+                .statusCode(HttpStatus.UNAUTHORIZED.value());
+
+        RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me/session")
+                .then().log().all()
+                .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void notModifiedWhenETagMatches() {
+        String eTag = RestAssured
+                .given().log().all()
+                .auth().preemptive().basic(EMAIL, PASSWORD)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me/basic")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value()).extract().header("ETag");
+
+        RestAssured
+                .given().log().all()
+                .auth().preemptive().basic(EMAIL, PASSWORD)
+                .header("If-None-Match", eTag)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me/basic")
+                .then().log().all()
+                .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    void introspectTokens() {
+        String accessToken = RestAssured
+                .given().log().all()
+                .body(new TokenRequest(EMAIL, PASSWORD))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/login/token")
+                .then().log().all().extract().as(TokenResponse.class).getAccessToken();
+
+        TokenIntrospectionResponse response = RestAssured
+                .given().log().all()
+                .auth().preemptive().basic(EMAIL, PASSWORD)
+                .body(new TokenIntrospectionRequest(List.of(accessToken, "not-a-token")))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/tokens/introspect")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value()).extract().as(TokenIntrospectionResponse.class);
+
+        assertThat(response.getResults()).hasSize(2);
+        assertThat(response.getResults().get(0).isActive()).isTrue();
+        assertThat(response.getResults().get(0).getSub()).isEqualTo(EMAIL);
+        assertThat(response.getResults().get(1).isActive()).isFalse();
+    }
+
+    @Test
+    void rejectUnauthenticatedIntrospection() {
+        RestAssured
+                .given().log().all()
+                .body(new TokenIntrospectionRequest(List.of("not-a-token")))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/tokens/introspect")
+                .then().log().all()
+                .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+}
@@ -0,0 +1,116 @@
+package cholog;
+
+import cholog.auth.dto.MemberResponse;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * security.session.store 별로 같은 세션 로그인 시나리오를 검증한다. 저장소마다 하위 클래스에서 속성만 바꾼다.
+ */
+abstract class SessionStoreAuthTest {
+    private static final String USERNAME_FIELD = "email";
+    private static final String PASSWORD_FIELD = "password";
+    private static final String EMAIL = "email@email.com";
+    private static final String PASSWORD = "1234";
+
+    @LocalServerPort
+    int port;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void sessionLogin() {
+        String cookie = login(null);
+
+        assertThat(cookie).startsWith("SESSION=");
+        assertThat(findMyEmail(cookie)).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void changeSessionIdOnLogin() {
+        String cookie = login(null);
+
+        String renewed = login(cookie);
+
+        assertThat(renewed).startsWith("SESSION=").isNotEqualTo(cookie);
+        assertThat(findMyEmail(renewed)).isEqualTo(EMAIL);
+        RestAssured
+                .given().log().all()
+                .header("Cookie", cookie)
+                .when().get("/members/me/session")
+                .then().log().all()
+                .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void doNotCreateSessionOnFailedLogin() {
+        String setCookie = RestAssured
+                .given().log().all()
+                .param(USERNAME_FIELD, EMAIL)
+                .param(PASSWORD_FIELD, "wrong")
+                .when().post("/login/session")
+                .then().log().all()
+                .statusCode(HttpStatus.UNAUTHORIZED.value())
+                .extract().header("Set-Cookie");
+
+        assertThat(setCookie).isNull();
+    }
+
+    private String login(String cookie) {
+        var request = RestAssured
+                .given().log().all()
+                .param(USERNAME_FIELD, EMAIL)
+                .param(PASSWORD_FIELD, PASSWORD);
+        if (cookie != null) {
+            request.header("Cookie", cookie);
+        }
+        return request
+                .when().post("/login/session")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .extract().header("Set-Cookie").split(";")[0];
+    }
+
+    private String findMyEmail(String cookie) {
+        return RestAssured
+                .given().log().all()
+                .header("Cookie", cookie)
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me/session")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value()).extract().as(MemberResponse.class).getEmail();
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "security.session.store=jdbc")
+    static class JdbcSessionAuthTest extends SessionStoreAuthTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {"security.session.store=mmap", "security.session.mmap.capacity=1048576"})
+    static class MappedFileSessionAuthTest extends SessionStoreAuthTest {
+        @TempDir
+        static Path directory;
+
+        /**
+         * 이전 실행의 세션 로그를 다시 읽지 않도록 테스트 클래스마다 새 임시 디렉터리에 기록한다.
+         */
+        @DynamicPropertySource
+        static void sessionFilePath(DynamicPropertyRegistry registry) {
+            registry.add("security.session.mmap.path", () -> directory.resolve("sessions.dat").toString());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package cholog.auth.infrastructure;
+
+import cholog.auth.dto.AuthInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BasicAuthorizationExtractorTest {
+    private final BasicAuthorizationExtractor extractor = new BasicAuthorizationExtractor();
+
+    @Test
+    void extract() {
+        AuthInfo authInfo = extractor.extract("Basic " + encode("email@email.com:password"));
+
+        assertThat(authInfo.getEmail()).isEqualTo("email@email.com");
+        assertThat(authInfo.getPassword()).isEqualTo("password");
+    }
+
+    @Test
+    void extractFromRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION, "Basic " + encode("email@email.com:password"));
+
+        assertThat(extractor.extract(request).getEmail()).isEqualTo("email@email.com");
+        assertThat(extractor.extract(new MockHttpServletRequest())).isNull();
+    }
+
+    @Test
+    void extractPaddedValue() {
+        assertThat(encode("ab:c")).endsWith("==");
+        assertThat(encode("abcd:ef")).endsWith("=");
+
+        assertThat(extractor.extract("Basic " + encode("ab:c")).getPassword()).isEqualTo("c");
+        assertThat(extractor.extract("Basic " + encode("abcd:ef")).getPassword()).isEqualTo("ef");
+    }
+
+    @Test
+    void extractPasswordContainingDelimiter() {
+        AuthInfo authInfo = extractor.extract("Basic " + encode("email@email.com:pass:word"));
+
+        assertThat(authInfo.getPassword()).isEqualTo("pass:word");
+    }
+
+    @Test
+    void extractUtf8Credentials() {
+        AuthInfo authInfo = extractor.extract("Basic " + encode("브라운@email.com:비밀번호"));
+
+        assertThat(authInfo.getEmail()).isEqualTo("브라운@email.com");
+        assertThat(authInfo.getPassword()).isEqualTo("비밀번호");
+    }
+
+    @Test
+    void extractMixedCaseScheme() {
+        assertThat(extractor.extract("basic " + encode("email@email.com:password")).getEmail()).isEqualTo("email@email.com");
+        assertThat(extractor.extract("BASIC " + encode("email@email.com:password")).getEmail()).isEqualTo("email@email.com");
+    }
+
+    @Test
+    void extractIgnoresSurroundingWhitespace() {
+        assertThat(extractor.extract("Basic   " + encode("email@email.com:password") + "  ").getPassword()).isEqualTo("password");
+    }
+
+    @Test
+    void rejectInvalidCharacters() {
+        assertThat(extractor.extract("Basic ZW1h!WxAZW1haWwuY29tOnBhc3N3b3Jk")).isNull();
+        assertThat(extractor.extract("Basic " + encode("email@email.com:password") + "=x")).isNull();
+    }
+
+    @Test
+    void rejectValueWithoutDelimiter() {
+        assertThat(extractor.extract("Basic " + encode("email@email.com"))).isNull();
+    }
+
+    @Test
+    void rejectOtherScheme() {
+        assertThat(extractor.extract("Bearer " + encode("email@email.com:password"))).isNull();
+        assertThat(extractor.extract("Basic" + encode("email@email.com:password"))).isNull();
+        assertThat(extractor.extract("Basic ")).isNull();
+        assertThat(extractor.extract((String) null)).isNull();
+    }
+
+    private String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,64 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BearerAuthorizationExtractorTest {
+    private final BearerAuthorizationExtractor extractor = new BearerAuthorizationExtractor();
+
+    @Test
+    void extract() {
+        assertThat(extractor.extract("Bearer token")).isEqualTo("token");
+    }
+
+    @Test
+    void extractIgnoresSurroundingWhitespace() {
+        assertThat(extractor.extract("Bearer   token  ")).isEqualTo("token");
+        assertThat(extractor.extract("Bearer\ttoken")).isEqualTo("token");
+    }
+
+    @Test
+    void extractUntilComma() {
+        assertThat(extractor.extract("Bearer token , error=\"invalid\"")).isEqualTo("token");
+    }
+
+    @Test
+    void extractMixedCaseScheme() {
+        assertThat(extractor.extract("bearer token")).isEqualTo("token");
+        assertThat(extractor.extract("BEARER token")).isEqualTo("token");
+    }
+
+    @Test
+    void rejectEmptyToken() {
+        assertThat(extractor.extract("Bearer")).isNull();
+        assertThat(extractor.extract("Bearer    ")).isNull();
+    }
+
+    @Test
+    void rejectOtherScheme() {
+        assertThat(extractor.extract("Basic token")).isNull();
+        assertThat(extractor.extract("Bearertoken")).isNull();
+        assertThat(extractor.extract((String) null)).isNull();
+    }
+
+    @Test
+    void extractFirstBearerHeader() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION, "Basic credentials");
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION, "bearer token");
+
+        assertThat(extractor.extract(request)).isEqualTo("token");
+        assertThat(request.getAttribute(BearerAuthorizationExtractor.ACCESS_TOKEN_TYPE)).isNull();
+    }
+
+    @Test
+    void exposeTokenType() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AuthorizationExtractor.AUTHORIZATION, "bearer token");
+
+        assertThat(new BearerAuthorizationExtractor(true).extract(request)).isEqualTo("token");
+        assertThat(request.getAttribute(BearerAuthorizationExtractor.ACCESS_TOKEN_TYPE)).isEqualTo("bearer");
+    }
+}
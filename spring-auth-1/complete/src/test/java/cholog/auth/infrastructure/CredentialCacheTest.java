@@ -0,0 +1,70 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CredentialCacheTest {
+
+    @Test
+    void contains() {
+        CredentialCache cache = new CredentialCache(60000, 10);
+
+        cache.put("email@email.com", "password");
+
+        assertThat(cache.contains("email@email.com", "password")).isTrue();
+        assertThat(cache.contains("email@email.com", "Password")).isFalse();
+        assertThat(cache.contains("other@email.com", "password")).isFalse();
+    }
+
+    @Test
+    void principalAndCredentialsAreNotConcatenated() {
+        CredentialCache cache = new CredentialCache(60000, 10);
+
+        cache.put("ab", "c");
+
+        assertThat(cache.contains("a", "bc")).isFalse();
+    }
+
+    @Test
+    void expire() {
+        CredentialCache cache = new CredentialCache(0, 10);
+
+        cache.put("email@email.com", "password");
+
+        assertThat(cache.contains("email@email.com", "password")).isFalse();
+    }
+
+    @Test
+    void invalidate() {
+        CredentialCache cache = new CredentialCache(60000, 10);
+        cache.put("email@email.com", "password");
+        cache.put("other@email.com", "password");
+
+        cache.invalidate("email@email.com", "password");
+
+        assertThat(cache.contains("email@email.com", "password")).isFalse();
+        assertThat(cache.contains("other@email.com", "password")).isTrue();
+    }
+
+    @Test
+    void clear() {
+        CredentialCache cache = new CredentialCache(60000, 10);
+        cache.put("email@email.com", "password");
+
+        cache.clear();
+
+        assertThat(cache.contains("email@email.com", "password")).isFalse();
+    }
+
+    @Test
+    void doNotCacheWhenFull() {
+        CredentialCache cache = new CredentialCache(60000, 1);
+        cache.put("email@email.com", "password");
+
+        cache.put("other@email.com", "password");
+
+        assertThat(cache.contains("email@email.com", "password")).isTrue();
+        assertThat(cache.contains("other@email.com", "password")).isFalse();
+    }
+}
@@ -0,0 +1,123 @@
+package cholog.auth.infrastructure;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class JwtTokenProviderTest {
+    private static final String EMAIL = "email@email.com";
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Value("${security.jwt.token.secret-key}")
+    private String secretKey;
+
+    /**
+     * 다른 테스트 컨텍스트나 실행과 폐기 목록이 섞이지 않도록 컨텍스트마다 새 임시 디렉터리에 기록한다.
+     */
+    @DynamicPropertySource
+    static void revocationLogPath(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("cholog-auth");
+        registry.add("security.token.revocation.log-path", () -> directory.resolve("revoked-tokens.log").toString());
+    }
+
+    @Test
+    void verify() {
+        String token = jwtTokenProvider.createToken(EMAIL);
+
+        VerifiedClaims claims = jwtTokenProvider.verify(token);
+
+        assertThat(claims.getSubject()).isEqualTo(EMAIL);
+        assertThat(claims.getExpiration()).isAfter(claims.getIssuedAt());
+    }
+
+    @Test
+    void verifyTokenSignedWithStringKey() {
+        Date now = new Date();
+        String token = Jwts.builder()
+                .setSubject(EMAIL)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60000))
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+
+        assertThat(jwtTokenProvider.verify(token).getSubject()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void verifyTokenWithDifferentHeader() {
+        Date now = new Date();
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject(EMAIL)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 60000))
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+
+        assertThat(jwtTokenProvider.verify(token).getSubject()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void verifyTokenWithDifferentHeaderAndWrongKey() {
+        Date now = new Date();
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject(EMAIL)
+                .setExpiration(new Date(now.getTime() + 60000))
+                .signWith(SignatureAlgorithm.HS256, "d3JvbmctJHtzZWNyZXR9LWtleS13cm9uZy1rZXk=")
+                .compact();
+
+        assertThat(jwtTokenProvider.tryVerify(token).getFailureReason()).isEqualTo(InvalidTokenException.Reason.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void verifyTamperedToken() {
+        String token = jwtTokenProvider.createToken(EMAIL);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(tampered))
+                .isInstanceOf(InvalidTokenException.class)
+                .extracting("reason").isEqualTo(InvalidTokenException.Reason.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void verifyMalformedToken() {
+        assertThatThrownBy(() -> jwtTokenProvider.verify("not-a-token"))
+                .isInstanceOf(InvalidTokenException.class)
+                .extracting("reason").isEqualTo(InvalidTokenException.Reason.MALFORMED);
+    }
+
+    @Test
+    void tryVerifyDoesNotThrow() {
+        TokenVerification verification = jwtTokenProvider.tryVerify("not-a-token");
+
+        assertThat(verification.isValid()).isFalse();
+        assertThat(verification.getFailureReason()).isEqualTo(InvalidTokenException.Reason.MALFORMED);
+    }
+
+    @Test
+    void revoke() {
+        String token = jwtTokenProvider.createToken(EMAIL);
+        jwtTokenProvider.verify(token);
+
+        assertThat(jwtTokenProvider.revoke(token)).isTrue();
+
+        assertThat(jwtTokenProvider.tryVerify(token).getFailureReason()).isEqualTo(InvalidTokenException.Reason.REVOKED);
+        assertThat(jwtTokenProvider.validateToken(jwtTokenProvider.createToken(EMAIL))).isTrue();
+    }
+}
@@ -0,0 +1,40 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTest {
+    private final LoginRateLimiter limiter = new LoginRateLimiter(2, 60_000, 100);
+
+    @Test
+    void limitPrincipal() {
+        assertThat(limiter.tryAcquire("email@email.com", "1.1.1.1")).isZero();
+        assertThat(limiter.tryAcquire("email@email.com", "2.2.2.2")).isZero();
+
+        assertThat(limiter.tryAcquire("email@email.com", "3.3.3.3")).isPositive();
+    }
+
+    @Test
+    void rejectedPrincipalDoesNotSpendAddressToken() {
+        limiter.tryAcquire("locked@email.com", "1.1.1.1");
+        limiter.tryAcquire("locked@email.com", "2.2.2.2");
+
+        assertThat(limiter.tryAcquire("locked@email.com", "3.3.3.3")).isPositive();
+        assertThat(limiter.tryAcquire("locked@email.com", "3.3.3.3")).isPositive();
+
+        assertThat(limiter.tryAcquire("first@email.com", "3.3.3.3")).isZero();
+        assertThat(limiter.tryAcquire("second@email.com", "3.3.3.3")).isZero();
+    }
+
+    @Test
+    void rejectedAddressDoesNotSpendPrincipalToken() {
+        limiter.tryAcquire("first@email.com", "1.1.1.1");
+        limiter.tryAcquire("second@email.com", "1.1.1.1");
+
+        assertThat(limiter.tryAcquire("email@email.com", "1.1.1.1")).isPositive();
+
+        assertThat(limiter.tryAcquire("email@email.com", "2.2.2.2")).isZero();
+        assertThat(limiter.tryAcquire("email@email.com", "3.3.3.3")).isZero();
+    }
+}
@@ -0,0 +1,53 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Pbkdf2PasswordHasherTest {
+    private final Pbkdf2PasswordHasher passwordHasher = new Pbkdf2PasswordHasher(1000);
+
+    @Test
+    void matches() {
+        String hashedPassword = passwordHasher.hash("password");
+
+        assertThat(hashedPassword).startsWith("1000:");
+        assertThat(passwordHasher.matches("password", hashedPassword)).isTrue();
+    }
+
+    @Test
+    void saltDiffersPerHash() {
+        assertThat(passwordHasher.hash("password")).isNotEqualTo(passwordHasher.hash("password"));
+    }
+
+    @Test
+    void matchesHashWithOtherIterations() {
+        String hashedPassword = new Pbkdf2PasswordHasher(500).hash("password");
+
+        assertThat(passwordHasher.matches("password", hashedPassword)).isTrue();
+    }
+
+    @Test
+    void wrongPassword() {
+        String hashedPassword = passwordHasher.hash("password");
+
+        assertThat(passwordHasher.matches("Password", hashedPassword)).isFalse();
+        assertThat(passwordHasher.matches("", hashedPassword)).isFalse();
+        assertThat(passwordHasher.matches(null, hashedPassword)).isFalse();
+    }
+
+    @Test
+    void malformedHash() {
+        String[] parts = passwordHasher.hash("password").split(":");
+
+        assertThat(passwordHasher.matches("password", null)).isFalse();
+        assertThat(passwordHasher.matches("password", "")).isFalse();
+        assertThat(passwordHasher.matches("password", parts[1] + ":" + parts[2])).isFalse();
+        assertThat(passwordHasher.matches("password", "many:" + parts[1] + ":" + parts[2])).isFalse();
+        assertThat(passwordHasher.matches("password", "0:" + parts[1] + ":" + parts[2])).isFalse();
+        assertThat(passwordHasher.matches("password", "-1:" + parts[1] + ":" + parts[2])).isFalse();
+        assertThat(passwordHasher.matches("password", parts[0] + ":not base64!:" + parts[2])).isFalse();
+        assertThat(passwordHasher.matches("password", parts[0] + "::" + parts[2])).isFalse();
+        assertThat(passwordHasher.matches("password", parts[0] + ":" + parts[1] + ":")).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightCacheTest {
+    @Test
+    void coalesceConcurrentLookups() throws Exception {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(0, 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("key", key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        }));
+        loading.await(1, TimeUnit.SECONDS);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("key", key -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        while (cache.getSuppressedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getSuppressedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cacheResultForTtl() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(TimeUnit.MINUTES.toNanos(1), 10);
+
+        cache.get("key", key -> "value");
+
+        assertThat(cache.get("key", key -> "other")).isEqualTo("value");
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doNotCacheFailure() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(TimeUnit.MINUTES.toNanos(1), 10);
+
+        assertThatThrownBy(() -> cache.get("key", key -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("key", key -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void releaseJoinedCallersWhenLoaderThrowsError() throws Exception {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(0, 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("key", key -> {
+            loading.countDown();
+            await(release);
+            throw new StackOverflowError();
+        }));
+        loading.await(1, TimeUnit.SECONDS);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("key", key -> "other"));
+        while (cache.getSuppressedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> second.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictInBatchesWhenFull() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(TimeUnit.MINUTES.toNanos(1), 10);
+        for (int i = 0; i < 11; i++) {
+            cache.get("key" + i, key -> "value");
+        }
+
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.get("key10", key -> "other")).isEqualTo("value");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+    private static final long REFILL_INTERVAL = 1_000;
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, REFILL_INTERVAL, 10, now::get);
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isEqualTo(REFILL_INTERVAL);
+        assertThat(limiter.tryAcquire("other")).isZero();
+    }
+
+    @Test
+    void refillsOverTime() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 10, now::get);
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isEqualTo(REFILL_INTERVAL);
+
+        now.addAndGet(REFILL_INTERVAL);
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+    }
+
+    @Test
+    void newKeysDoNotShareBucketWhenFull() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 2, now::get);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire("attacker" + i)).isZero();
+        }
+
+        assertThat(limiter.tryAcquire("user")).isZero();
+        assertThat(limiter.size()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void evictsIdleBucketsBeforeActiveOnes() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 2, now::get);
+        limiter.tryAcquire("idle");
+        now.addAndGet(REFILL_INTERVAL);
+        limiter.tryAcquire("active");
+
+        limiter.tryAcquire("new");
+
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("active")).isPositive();
+    }
+
+    @Test
+    void evictsNearlyIdleBucketsWhenAllActive() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 3, now::get);
+        limiter.tryAcquire("oldest");
+        now.addAndGet(REFILL_INTERVAL / 2);
+        limiter.tryAcquire("recent");
+        limiter.tryAcquire("newest");
+
+        limiter.tryAcquire("new");
+
+        assertThat(limiter.size()).isEqualTo(3);
+        assertThat(limiter.tryAcquire("recent")).isPositive();
+        assertThat(limiter.tryAcquire("newest")).isPositive();
+    }
+
+    @Test
+    void waitNanosDoesNotConsume() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 10, now::get);
+
+        assertThat(limiter.waitNanos("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.waitNanos("key")).isEqualTo(REFILL_INTERVAL);
+        assertThat(limiter.waitNanos("key")).isEqualTo(REFILL_INTERVAL);
+    }
+
+    @Test
+    void refund() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 10, now::get);
+        limiter.tryAcquire("key");
+
+        limiter.refund("key");
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+    }
+
+    @Test
+    void removeIdleBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, REFILL_INTERVAL, 10, now::get);
+        limiter.tryAcquire("key");
+
+        limiter.removeIdleBuckets();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        now.addAndGet(REFILL_INTERVAL);
+        limiter.removeIdleBuckets();
+        assertThat(limiter.size()).isZero();
+    }
+}
@@ -0,0 +1,53 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationStoreTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void revoke() {
+        TokenRevocationStore store = new TokenRevocationStore(100, null, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        store.revoke("jti", NOW.plusSeconds(60).getEpochSecond());
+
+        assertThat(store.isRevoked("jti")).isTrue();
+        assertThat(store.isRevoked("other")).isFalse();
+        assertThat(store.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void ignoreExpiredToken() {
+        TokenRevocationStore store = new TokenRevocationStore(100, null, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        store.revoke("expired", NOW.getEpochSecond());
+
+        assertThat(store.size()).isZero();
+        assertThat(store.isRevoked("expired")).isFalse();
+    }
+
+    @Test
+    void rebuildFromLog() {
+        Path log = tempDir.resolve("revoked-tokens.log");
+        TokenRevocationStore store = new TokenRevocationStore(100, log, Clock.fixed(NOW, ZoneOffset.UTC));
+        store.revoke("live", NOW.plusSeconds(120).getEpochSecond());
+        store.revoke("expiring", NOW.plusSeconds(30).getEpochSecond());
+
+        TokenRevocationStore restarted = new TokenRevocationStore(100, log, Clock.fixed(NOW.plusSeconds(60), ZoneOffset.UTC));
+
+        assertThat(restarted.isRevoked("live")).isTrue();
+        assertThat(restarted.isRevoked("expiring")).isFalse();
+        assertThat(restarted.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,75 @@
+package cholog.auth.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void hit() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+        VerifiedClaims claims = claimsExpiringAt(NOW.plusSeconds(60));
+
+        cache.put("token", claims);
+
+        assertThat(cache.get("token")).isSameAs(claims);
+        assertThat(cache.get("other")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void neverReturnsExpiredClaims() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, clock);
+
+        cache.put("token", claimsExpiringAt(NOW));
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsSoonestToExpireWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, clock);
+
+        cache.put("first", claimsExpiringAt(NOW.plusSeconds(10)));
+        cache.put("second", claimsExpiringAt(NOW.plusSeconds(60)));
+        cache.put("third", claimsExpiringAt(NOW.plusSeconds(30)));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isNotNull();
+        assertThat(cache.get("third")).isNotNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsInBatchesWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(20, clock);
+        for (int i = 0; i < 20; i++) {
+            cache.put("token" + i, claimsExpiringAt(NOW.plusSeconds(100 - i)));
+        }
+
+        cache.put("new", claimsExpiringAt(NOW.plusSeconds(1000)));
+
+        assertThat(cache.size()).isEqualTo(19);
+        assertThat(cache.get("token19")).isNull();
+        assertThat(cache.get("token18")).isNull();
+        assertThat(cache.get("token17")).isNotNull();
+        assertThat(cache.get("new")).isNotNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+    }
+
+    private VerifiedClaims claimsExpiringAt(Instant expiration) {
+        return new VerifiedClaims("email@email.com", NOW.minusSeconds(1), expiration);
+    }
+}
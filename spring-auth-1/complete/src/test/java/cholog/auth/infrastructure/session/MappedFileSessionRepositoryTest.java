@@ -0,0 +1,167 @@
+package cholog.auth.infrastructure.session;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFileSessionRepositoryTest {
+    private static final int CAPACITY = 4096;
+    // [type][id 길이 2바이트]["s1"][creationTime][lastAccessedTime][maxInactiveInterval]
+    private static final int SESSION_RECORD_SIZE = 1 + 2 + 2 + 8 + 8 + 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayAfterRestart() throws IOException {
+        Path path = directory.resolve("sessions.dat");
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            repository.save(new SessionRecord("s1", 1, 2, 1800));
+            repository.saveAttributes("s1", Map.of("a", bytes("1"), "b", bytes("2")));
+            repository.saveAttributes("s1", attributes("b", null));
+            repository.save(new SessionRecord("s1", 1, 3, 1800));
+            repository.save(new SessionRecord("s2", 1, 2, 1800));
+            repository.deleteById("s2");
+        }
+
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            SessionRecord record = repository.findById("s1");
+            assertThat(record.getCreationTime()).isEqualTo(1L);
+            assertThat(record.getLastAccessedTime()).isEqualTo(3L);
+            assertThat(record.getMaxInactiveInterval()).isEqualTo(1800);
+            assertThat(repository.findAttribute("s1", "a")).isEqualTo(bytes("1"));
+            assertThat(repository.findAttribute("s1", "b")).isNull();
+            assertThat(repository.findAttributeNames("s1")).containsExactly("a");
+            assertThat(repository.findById("s2")).isNull();
+        }
+    }
+
+    @Test
+    void ignoreUnsealedRecord() throws IOException {
+        Path path = directory.resolve("sessions.dat");
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            repository.save(new SessionRecord("s1", 1, 2, 1800));
+        }
+        // type 을 쓰기 전에 끊긴 레코드: body 만 있고 type 자리는 END 이다.
+        write(path, SESSION_RECORD_SIZE + 1, new byte[]{0, 2, 's', '2', 0, 0, 0, 0, 0, 0, 0, 1});
+
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            assertThat(repository.findById("s1")).isNotNull();
+            assertThat(repository.findById("s2")).isNull();
+            repository.save(new SessionRecord("s3", 1, 2, 1800));
+        }
+
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            assertThat(repository.findById("s1")).isNotNull();
+            assertThat(repository.findById("s3")).isNotNull();
+        }
+    }
+
+    @Test
+    void stopReplayAtCorruptedRecord() throws IOException {
+        Path path = directory.resolve("sessions.dat");
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            repository.save(new SessionRecord("s1", 1, 2, 1800));
+        }
+        // type 은 기록됐지만 속성 길이가 파일 끝을 넘어서는 레코드
+        write(path, SESSION_RECORD_SIZE, new byte[]{2, 0, 2, 's', '1', 0, 1, 'a', 0x7F, 0, 0, 0});
+
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            assertThat(repository.findById("s1")).isNotNull();
+            assertThat(repository.findAttributeNames("s1")).isEmpty();
+            repository.saveAttributes("s1", Map.of("a", bytes("1")));
+        }
+
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            assertThat(repository.findAttribute("s1", "a")).isEqualTo(bytes("1"));
+        }
+    }
+
+    @Test
+    void compactWhenFull() throws IOException {
+        Path path = directory.resolve("sessions.dat");
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            repository.save(new SessionRecord("s1", 1, 1, 1800));
+            repository.saveAttributes("s1", Map.of("fixed", bytes("value")));
+            repository.save(new SessionRecord("s2", 1, 1, 1800));
+            repository.deleteById("s2");
+
+            for (int i = 0; i < 1000; i++) {
+                repository.save(new SessionRecord("s1", 1, i, 1800));
+                repository.saveAttributes("s1", Map.of("counter", bytes(Integer.toString(i))));
+            }
+
+            assertThat(repository.findById("s1").getLastAccessedTime()).isEqualTo(999L);
+            assertThat(repository.findAttribute("s1", "counter")).isEqualTo(bytes("999"));
+            assertThat(repository.findAttribute("s1", "fixed")).isEqualTo(bytes("value"));
+            assertThat(repository.findById("s2")).isNull();
+        }
+        assertThat(Files.exists(path.resolveSibling("sessions.dat.compact"))).isFalse();
+
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, CAPACITY)) {
+            assertThat(repository.findById("s1").getLastAccessedTime()).isEqualTo(999L);
+            assertThat(repository.findAttribute("s1", "counter")).isEqualTo(bytes("999"));
+            assertThat(repository.findAttribute("s1", "fixed")).isEqualTo(bytes("value"));
+            assertThat(repository.findById("s2")).isNull();
+        }
+    }
+
+    @Test
+    void rejectRecordLargerThanCapacity() throws IOException {
+        Path path = directory.resolve("sessions.dat");
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(path, 256)) {
+            repository.save(new SessionRecord("s1", 1, 2, 1800));
+            repository.saveAttributes("s1", Map.of("a", bytes("1")));
+
+            assertThatThrownBy(() -> repository.saveAttributes("s1", Map.of("b", new byte[1024])))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(repository.findAttribute("s1", "a")).isEqualTo(bytes("1"));
+            assertThat(repository.findAttribute("s1", "b")).isNull();
+            repository.saveAttributes("s1", Map.of("c", bytes("3")));
+            assertThat(repository.findAttribute("s1", "c")).isEqualTo(bytes("3"));
+        }
+    }
+
+    @Test
+    void deleteExpired() throws IOException {
+        try (MappedFileSessionRepository repository = new MappedFileSessionRepository(directory.resolve("sessions.dat"), CAPACITY)) {
+            repository.save(new SessionRecord("expired", 0, 0, 1));
+            repository.save(new SessionRecord("alive", 0, 0, 1800));
+            repository.save(new SessionRecord("eternal", 0, 0, 0));
+
+            assertThat(repository.deleteExpired(10_000)).isEqualTo(1);
+            assertThat(repository.findById("expired")).isNull();
+            assertThat(repository.findById("alive")).isNotNull();
+            assertThat(repository.findById("eternal")).isNotNull();
+        }
+    }
+
+    private static Map<String, byte[]> attributes(String name, byte[] value) {
+        Map<String, byte[]> attributes = new HashMap<>();
+        attributes.put(name, value);
+        return attributes;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void write(Path path, int offset, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), offset);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package cholog.auth.infrastructure.session;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionRepositoryFilterTest {
+    @TempDir
+    Path directory;
+
+    private MappedFileSessionRepository repository;
+    private SessionRepositoryFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = new MappedFileSessionRepository(directory.resolve("sessions.dat"), 65536);
+        filter = new SessionRepositoryFilter(repository, 1800);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    void saveSessionBeforeBodyIsWritten() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.getSession().setAttribute("USER", "email@email.com");
+                response.getWriter().write("body");
+                String sessionId = request.getSession().getId();
+                assertThat(repository.findById(sessionId)).isNotNull();
+                assertThat(repository.findAttributeNames(sessionId)).containsExactly("USER");
+            }
+        }));
+
+        assertThat(response.getCookie(SessionRepositoryFilter.COOKIE_NAME)).isNotNull();
+    }
+
+    @Test
+    void saveSessionWhenChainEnds() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                request.getSession().setAttribute("USER", "email@email.com");
+            }
+        }));
+
+        String sessionId = response.getCookie(SessionRepositoryFilter.COOKIE_NAME).getValue();
+        assertThat(repository.findById(sessionId)).isNotNull();
+        assertThat(repository.findAttribute(sessionId, "USER")).isNotNull();
+    }
+
+    @Test
+    void changeSessionId() throws Exception {
+        long now = System.currentTimeMillis();
+        repository.save(new SessionRecord("old", now, now, 1800));
+        repository.saveAttributes("old", Map.of("USER", SessionAttributeCodec.encode("email@email.com")));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(SessionRepositoryFilter.COOKIE_NAME, "old"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                String newId = request.changeSessionId();
+                assertThat(newId).isNotEqualTo("old");
+                assertThat(request.getSession().getId()).isEqualTo(newId);
+                assertThat(request.getSession().getAttribute("USER")).isEqualTo("email@email.com");
+            }
+        }));
+
+        String newId = response.getCookie(SessionRepositoryFilter.COOKIE_NAME).getValue();
+        assertThat(repository.findById("old")).isNull();
+        assertThat(repository.findById(newId).getCreationTime()).isEqualTo(now);
+        assertThat(SessionAttributeCodec.decode(repository.findAttribute(newId, "USER"))).isEqualTo("email@email.com");
+    }
+
+    @Test
+    void changeSessionIdWithoutSession() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                assertThatThrownBy(request::changeSessionId).isInstanceOf(IllegalStateException.class);
+            }
+        }));
+    }
+}
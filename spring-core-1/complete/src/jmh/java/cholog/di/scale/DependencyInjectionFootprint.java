@@ -0,0 +1,71 @@
+package cholog.di.scale;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주입 방식별로 빈 정의만 등록했을 때와 refresh 로 싱글톤을 만든 뒤의 heap 사용량을 빈 하나당 바이트로 구한다.
+ * 측정 전후로 GC 를 여러 번 요청하므로 -Xmx 를 넉넉히 주고 다른 작업과 함께 실행하지 않는다.
+ * <p>
+ * args: [빈 수] [결과 JSON 경로]
+ */
+public class DependencyInjectionFootprint {
+    private static final String[] STYLES = {"field", "setter", "constructor"};
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args) throws IOException {
+        int beanCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        Path output = args.length > 1 ? Path.of(args[1]) : null;
+
+        List<String> results = new ArrayList<>();
+        for (String style : STYLES) {
+            Class<?>[] classes = InjectionBeans.load(style, beanCount);
+            warmUp(classes, beanCount);
+
+            long baseline = usedHeapAfterGc();
+            AnnotationConfigApplicationContext context = InjectionBeans.register(classes, "singleton");
+            long registered = usedHeapAfterGc();
+            context.refresh();
+            long refreshed = usedHeapAfterGc();
+            context.close();
+
+            double perDefinition = (double) (registered - baseline) / beanCount;
+            double perBean = (double) (refreshed - baseline) / beanCount;
+            System.out.printf("%-12s beans=%d definition=%.1f B/bean refreshed=%.1f B/bean%n", style, beanCount, perDefinition, perBean);
+            results.add(String.format("{\"style\": \"%s\", \"beanCount\": %d, \"bytesPerDefinition\": %.1f, \"bytesPerRefreshedBean\": %.1f}",
+                    style, beanCount, perDefinition, perBean));
+        }
+
+        if (output != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.writeString(output, "[\n  " + String.join(",\n  ", results) + "\n]\n", StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 클래스 메타데이터와 reflection 캐시가 측정값에 섞이지 않도록 한 번 먼저 만들어 본다.
+     */
+    private static void warmUp(Class<?>[] classes, int beanCount) {
+        try (AnnotationConfigApplicationContext context = InjectionBeans.register(classes, "singleton")) {
+            context.refresh();
+            if (context.getBeanDefinitionCount() < beanCount) {
+                throw new IllegalStateException("missing bean definitions");
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,81 @@
+package cholog.di.scale;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주입 방식(field, setter, constructor)별로 빈 수에 따른 context refresh 시간과 getBean 지연 시간을 잰다.
+ * 빈은 diChainDepth 길이의 의존 사슬을 이루므로, prototype 의 getBean 은 사슬 위치만큼의 빈을 새로 만든다.
+ */
+public class DependencyInjectionScaleBenchmark {
+    @State(Scope.Benchmark)
+    public static class RefreshState {
+        @Param({"field", "setter", "constructor"})
+        String style;
+
+        @Param({"100", "1000", "2000"})
+        int beanCount;
+
+        Class<?>[] classes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            classes = InjectionBeans.load(style, beanCount);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LookupState {
+        @Param({"field", "setter", "constructor"})
+        String style;
+
+        @Param({"100", "1000", "2000"})
+        int beanCount;
+
+        @Param({"singleton", "prototype"})
+        String scope;
+
+        AnnotationConfigApplicationContext context;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = InjectionBeans.register(InjectionBeans.load(style, beanCount), scope);
+            context.refresh();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int refresh(RefreshState state) {
+        try (AnnotationConfigApplicationContext context = InjectionBeans.register(state.classes, "singleton")) {
+            context.refresh();
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object getBean(LookupState state) {
+        int index = ThreadLocalRandom.current().nextInt(state.beanCount);
+        return state.context.getBean(InjectionBeans.beanName(index));
+    }
+}
@@ -0,0 +1,41 @@
+package cholog.di.scale;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * generateInjectionBeans 가 만든 cholog.di.scale.{field,setter,constructor} 패키지의 빈을 context 에 등록한다.
+ */
+final class InjectionBeans {
+    private InjectionBeans() {
+    }
+
+    static Class<?>[] load(String style, int count) {
+        String prefix = "cholog.di.scale." + style + "." + Character.toUpperCase(style.charAt(0)) + style.substring(1) + "Bean";
+        Class<?>[] classes = new Class<?>[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                classes[i] = Class.forName(String.format("%s%05d", prefix, i));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("generate at least " + count + " beans with -PdiBeanCount", e);
+        }
+        return classes;
+    }
+
+    static String beanName(int index) {
+        return "bean" + index;
+    }
+
+    static AnnotationConfigApplicationContext register(Class<?>[] classes, String scope) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        for (int i = 0; i < classes.length; i++) {
+            registerBean(context, beanName(i), classes[i], scope);
+        }
+        return context;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void registerBean(AnnotationConfigApplicationContext context, String name, Class<?> beanClass, String scope) {
+        context.registerBean(name, (Class<T>) beanClass, definition -> definition.setScope(scope));
+    }
+}
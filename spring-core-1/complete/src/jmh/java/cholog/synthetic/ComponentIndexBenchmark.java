@@ -0,0 +1,52 @@
+package cholog.synthetic;
+
+import cholog.scan.ContextConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 컴포넌트 수천 개를 담은 cholog.synthetic 패키지로 context refresh 시간을 잰다.
+ * 색인 사용 여부(spring.index.ignore)는 JVM 시작 시 한 번만 읽히므로 fork 를 나눠 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ComponentIndexBenchmark {
+    @Benchmark
+    @Fork(1)
+    public int refreshWithIndex() {
+        return refresh(SyntheticScanConfiguration.class);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dspring.index.ignore=true")
+    public int refreshWithClasspathScan() {
+        return refresh(SyntheticScanConfiguration.class);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int refreshScanPackageWithIndex() {
+        return refresh(ContextConfiguration.class);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dspring.index.ignore=true")
+    public int refreshScanPackageWithClasspathScan() {
+        return refresh(ContextConfiguration.class);
+    }
+
+    private int refresh(Class<?> configClass) {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(configClass)) {
+            return context.getBeanDefinitionCount();
+        }
+    }
+}
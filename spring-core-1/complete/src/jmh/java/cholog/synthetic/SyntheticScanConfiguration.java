@@ -0,0 +1,9 @@
+package cholog.synthetic;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ComponentScan(basePackages = "cholog.synthetic")
+public class SyntheticScanConfiguration {
+}
@@ -1,5 +1,6 @@
 package cholog;
 
+import cholog.startup.StartupProfiler;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -7,7 +8,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class SpringCoreApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(SpringCoreApplication.class, args);
+        SpringApplication application = new SpringApplication(SpringCoreApplication.class);
+        StartupProfiler.enableIfRequested(application);
+        application.run(args);
     }
 
 }
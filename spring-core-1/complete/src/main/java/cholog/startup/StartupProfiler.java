@@ -0,0 +1,144 @@
+package cholog.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.core.metrics.StartupStep;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * -Dcholog.startup.report-dir=경로 로 실행하면 BufferingApplicationStartup 으로 시작 단계를 기록한다.
+ * 애플리케이션이 준비되면 오래 걸린 순으로 정렬한 startup.json 과, flame graph 도구가 읽는 collapsed stack 형식의 startup.collapsed 를 남긴다.
+ * <p>
+ * ex) ./gradlew bootRun -PprofileStartup
+ * - spring.context.component-scan : packages 태그로 cholog.scan 등 스캔 대상 확인
+ * - spring.beans.instantiate : beanName 태그로 cholog.di, cholog.bean 의 빈 생성 시간 확인
+ * - spring.context.config-classes.parse : 설정 클래스 파싱 시간 확인
+ */
+public class StartupProfiler {
+    private static final Logger log = LoggerFactory.getLogger(StartupProfiler.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    public static final String REPORT_DIR_PROPERTY = "cholog.startup.report-dir";
+    private static final int CAPACITY = 10_000;
+
+    private StartupProfiler() {
+    }
+
+    public static void enableIfRequested(SpringApplication application) {
+        String reportDir = System.getProperty(REPORT_DIR_PROPERTY);
+        if (reportDir == null || reportDir.isBlank()) {
+            return;
+        }
+
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(CAPACITY);
+        application.setApplicationStartup(applicationStartup);
+        application.addListeners(event -> {
+            if (event instanceof ApplicationReadyEvent) {
+                write(applicationStartup.drainBufferedTimeline(), Path.of(reportDir));
+            }
+        });
+    }
+
+    private static void write(StartupTimeline timeline, Path reportDir) {
+        List<StartupTimeline.TimelineEvent> events = new ArrayList<>(timeline.getEvents());
+        try {
+            Files.createDirectories(reportDir);
+            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportDir.resolve("startup.json").toFile(), toReport(timeline, events));
+            Files.write(reportDir.resolve("startup.collapsed"), toCollapsedStacks(events), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("startup report written to {}", reportDir.toAbsolutePath());
+    }
+
+    private static Map<String, Object> toReport(StartupTimeline timeline, List<StartupTimeline.TimelineEvent> events) {
+        List<Map<String, Object>> steps = new ArrayList<>(events.size());
+        events.stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .forEach(event -> {
+                    StartupStep step = event.getStartupStep();
+                    Map<String, String> tags = new LinkedHashMap<>();
+                    step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+
+                    Map<String, Object> json = new LinkedHashMap<>();
+                    json.put("id", step.getId());
+                    json.put("parentId", step.getParentId());
+                    json.put("name", step.getName());
+                    json.put("durationMicros", toMicros(event.getDuration()));
+                    json.put("tags", tags);
+                    steps.add(json);
+                });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startTime", timeline.getStartTime().toString());
+        report.put("steps", steps);
+        return report;
+    }
+
+    /**
+     * 부모 단계부터 이어 붙인 frame 경로와 자식 단계를 뺀 자체 시간(µs)을 한 줄씩 쓴다.
+     */
+    private static List<String> toCollapsedStacks(List<StartupTimeline.TimelineEvent> events) {
+        Map<Long, StartupTimeline.TimelineEvent> eventsById = new HashMap<>();
+        Map<Long, Long> childMicros = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            eventsById.put(step.getId(), event);
+            if (step.getParentId() != null) {
+                childMicros.merge(step.getParentId(), toMicros(event.getDuration()), Long::sum);
+            }
+        }
+
+        Map<String, Long> stacks = new LinkedHashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            long selfMicros = toMicros(event.getDuration()) - childMicros.getOrDefault(event.getStartupStep().getId(), 0L);
+            if (selfMicros > 0) {
+                stacks.merge(stackOf(event, eventsById), selfMicros, Long::sum);
+            }
+        }
+
+        List<String> lines = new ArrayList<>(stacks.size());
+        stacks.forEach((stack, micros) -> lines.add(stack + ' ' + micros));
+        return lines;
+    }
+
+    private static String stackOf(StartupTimeline.TimelineEvent event, Map<Long, StartupTimeline.TimelineEvent> eventsById) {
+        List<String> frames = new ArrayList<>();
+        StartupTimeline.TimelineEvent current = event;
+        while (current != null) {
+            frames.add(0, frameOf(current.getStartupStep()));
+            Long parentId = current.getStartupStep().getParentId();
+            current = parentId == null ? null : eventsById.get(parentId);
+        }
+        return String.join(";", frames);
+    }
+
+    private static String frameOf(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey()) || "packages".equals(tag.getKey())) {
+                return step.getName() + '[' + tag.getValue().replace(';', ',').replace(' ', '_') + ']';
+            }
+        }
+        return step.getName();
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
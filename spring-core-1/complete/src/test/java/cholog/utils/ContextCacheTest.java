@@ -0,0 +1,56 @@
+package cholog.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextCacheTest {
+    private final ContextCache contextCache = new ContextCache(2);
+
+    @AfterEach
+    void tearDown() {
+        contextCache.clear();
+    }
+
+    @Test
+    void reuseContextForSameConfigClass() {
+        ConfigurableApplicationContext first = contextCache.get(FirstConfig.class, ContextCacheTest::createContext);
+        ConfigurableApplicationContext second = contextCache.get(FirstConfig.class, ContextCacheTest::createContext);
+
+        assertThat(second).isSameAs(first);
+        assertThat(contextCache.getMissCount()).isEqualTo(1);
+        assertThat(contextCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void closeLeastRecentlyUsedContextWhenFull() {
+        ConfigurableApplicationContext first = contextCache.get(FirstConfig.class, ContextCacheTest::createContext);
+        ConfigurableApplicationContext second = contextCache.get(SecondConfig.class, ContextCacheTest::createContext);
+        contextCache.get(FirstConfig.class, ContextCacheTest::createContext);
+
+        contextCache.get(ThirdConfig.class, ContextCacheTest::createContext);
+
+        assertThat(contextCache.size()).isEqualTo(2);
+        assertThat(second.isActive()).isFalse();
+        assertThat(contextCache.get(FirstConfig.class, ContextCacheTest::createContext)).isSameAs(first);
+        assertThat(contextCache.getMissCount()).isEqualTo(3);
+    }
+
+    private static ConfigurableApplicationContext createContext(Class<?> configClass) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.refresh();
+        return context;
+    }
+
+    static class FirstConfig {
+    }
+
+    static class SecondConfig {
+    }
+
+    static class ThirdConfig {
+    }
+}
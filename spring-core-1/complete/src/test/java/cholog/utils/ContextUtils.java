@@ -2,25 +2,30 @@ package cholog.utils;
 
 import cholog.SpringCoreApplication;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.Arrays;
 
 public class ContextUtils {
+    private static final ContextCache CONTEXT_CACHE = new ContextCache();
+
     /**
      * HelloApplication > @SpringBootApplication 설정을 통해 이미 ComponentScan 설정되어있음
      */
     public static ApplicationContext getApplicationContext() {
-        ApplicationContext context = new AnnotationConfigApplicationContext(SpringCoreApplication.class);
-        String[] beanDefinitionNames = context.getBeanDefinitionNames();
-        System.out.println(Arrays.toString(beanDefinitionNames));
-        return context;
+        return getApplicationContext(SpringCoreApplication.class);
     }
     /**
      * HelloApplication > @SpringBootApplication 설정을 통해 이미 ComponentScan 설정되어있음
+     * 같은 설정 클래스로 만든 context 는 ContextCache 에서 재사용한다.
      */
     public static ApplicationContext getApplicationContext(Class clazz) {
-        ApplicationContext context = new AnnotationConfigApplicationContext(clazz);
+        return CONTEXT_CACHE.get(clazz, ContextUtils::createApplicationContext);
+    }
+
+    private static ConfigurableApplicationContext createApplicationContext(Class<?> clazz) {
+        ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(clazz);
         String[] beanDefinitionNames = context.getBeanDefinitionNames();
         System.out.println(Arrays.toString(beanDefinitionNames));
         return context;
@@ -0,0 +1,88 @@
+package cholog.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 설정 클래스별로 ApplicationContext 를 재사용한다.
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 context 를 닫고 제거하며, 남은 context 는 JVM 종료 시 닫는다.
+ * 적중 통계는 debug 레벨로 남긴다.
+ * <p>
+ * initial 과 complete 는 각각 따로 빌드하는 프로젝트이므로 ContextUtils 와 마찬가지로 두 곳에 같은 파일을 둔다.
+ */
+public class ContextCache {
+    private static final Logger log = LoggerFactory.getLogger(ContextCache.class);
+    public static final String MAX_SIZE_PROPERTY = "cholog.context-cache.max-size";
+    private static final int DEFAULT_MAX_SIZE = 32;
+
+    private final Map<Class<?>, ConfigurableApplicationContext> contexts = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+
+    private long hitCount;
+    private long missCount;
+
+    public ContextCache() {
+        this(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+    }
+
+    public ContextCache(int maxSize) {
+        this.maxSize = maxSize;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "context-cache-shutdown"));
+    }
+
+    public synchronized ConfigurableApplicationContext get(Class<?> configClass, Function<Class<?>, ConfigurableApplicationContext> factory) {
+        ConfigurableApplicationContext context = contexts.get(configClass);
+        if (context != null && context.isActive()) {
+            hitCount++;
+            return context;
+        }
+
+        missCount++;
+        context = factory.apply(configClass);
+        contexts.put(configClass, context);
+        evictEldest();
+        return context;
+    }
+
+    public synchronized void clear() {
+        contexts.values().forEach(ConfigurableApplicationContext::close);
+        contexts.clear();
+    }
+
+    public synchronized int size() {
+        return contexts.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ContextCache[size=" + contexts.size() + ", maxSize=" + maxSize + ", hitCount=" + hitCount + ", missCount=" + missCount + "]";
+    }
+
+    private void shutdown() {
+        log.debug("{}", this);
+        clear();
+    }
+
+    private void evictEldest() {
+        Iterator<ConfigurableApplicationContext> iterator = contexts.values().iterator();
+        while (contexts.size() > maxSize && iterator.hasNext()) {
+            ConfigurableApplicationContext eldest = iterator.next();
+            iterator.remove();
+            eldest.close();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package cholog.profile;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * MessageRepository 앞에 두는 near cache.
+ * 조회 결과를 ttl 동안 보관하고, 만료 refreshAhead 전부터는 보관한 값을 그대로 돌려주면서 백그라운드에서 한 번만 다시 읽는다.
+ * 엔트리는 읽은 순서를 유지하는 LinkedHashMap 에 두어, 최대 개수를 넘으면 전체를 훑지 않고 가장 오래 전에 읽은 엔트리 하나를 내보낸다.
+ * 원본 조회는 락 밖에서 하고, 락은 map 을 읽고 고치는 동안만 잡는다.
+ * 목록은 불변 사본으로 보관하므로 호출자가 돌려받은 목록을 바꿔도 캐시에는 영향이 없다.
+ * streamMessages 는 목록을 메모리에 모으지 않기 위한 것이므로 캐시하지 않고 그대로 위임한다.
+ */
+public class CachingMessageRepository implements MessageRepository, AutoCloseable {
+    private static final Object ALL_MESSAGES = new Object();
+
+    private final MessageRepository delegate;
+    private final Map<Object, CachedValue> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final int maximumSize;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoTime;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    public CachingMessageRepository(MessageRepository delegate, long ttlMillis, long refreshAheadMillis, int maximumSize) {
+        this(delegate, ttlMillis, refreshAheadMillis, maximumSize, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }), System::nanoTime);
+    }
+
+    CachingMessageRepository(MessageRepository delegate, long ttlMillis, long refreshAheadMillis, int maximumSize,
+                             Executor refreshExecutor, LongSupplier nanoTime) {
+        if (refreshAheadMillis < 0 || refreshAheadMillis >= ttlMillis) {
+            throw new IllegalArgumentException("refreshAhead 는 0 이상, ttl 미만이어야 합니다.");
+        }
+        this.delegate = delegate;
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.refreshAheadNanos = refreshAheadMillis * 1_000_000;
+        this.maximumSize = maximumSize;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public List<String> findMessages() {
+        return get(ALL_MESSAGES, () -> List.copyOf(delegate.findMessages()));
+    }
+
+    @Override
+    public Stream<String> streamMessages(int fetchSize) {
+        return delegate.streamMessages(fetchSize);
+    }
+
+    @Override
+    public List<Message> findMessagesAfter(long afterId, int limit) {
+        return get(new PageKey(afterId, limit), () -> List.copyOf(delegate.findMessagesAfter(afterId, limit)));
+    }
+
+    /**
+     * 메시지가 바뀌었을 때 호출한다. 진행 중인 백그라운드 갱신 결과도 버린다.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public void invalidateMessages() {
+        synchronized (entries) {
+            entries.remove(ALL_MESSAGES);
+        }
+    }
+
+    public void invalidatePage(long afterId, int limit) {
+        synchronized (entries) {
+            entries.remove(new PageKey(afterId, limit));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long requests = hits + missCount.sum();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /**
+     * 캐시가 비어 있거나 만료돼 호출자가 기다린 조회와 백그라운드 갱신을 합한 원본 조회 수
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getTotalLoadTimeNanos() {
+        return totalLoadNanos.sum();
+    }
+
+    public double getAverageLoadTimeNanos() {
+        long loads = loadCount.sum();
+        return loads == 0 ? 0.0 : (double) totalLoadNanos.sum() / loads;
+    }
+
+    @Override
+    public void close() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V get(Object key, Supplier<V> loader) {
+        long now = nanoTime.getAsLong();
+        CachedValue cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+            if (cached != null && cached.expiresAt - now <= 0) {
+                entries.remove(key);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            hitCount.increment();
+            if (cached.expiresAt - now <= refreshAheadNanos) {
+                refresh(key, cached, loader);
+            }
+            return (V) cached.value;
+        }
+
+        missCount.increment();
+        V value = load(loader);
+        cache(key, value);
+        return value;
+    }
+
+    private void refresh(Object key, CachedValue cached, Supplier<?> loader) {
+        if (!cached.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = load(loader);
+                    refreshCount.increment();
+                    CachedValue refreshed = newValue(value);
+                    synchronized (entries) {
+                        entries.replace(key, cached, refreshed);
+                    }
+                } catch (RuntimeException e) {
+                    cached.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            cached.refreshing.set(false);
+        }
+    }
+
+    private <V> V load(Supplier<V> loader) {
+        long start = nanoTime.getAsLong();
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            loadFailureCount.increment();
+            throw e;
+        } finally {
+            loadCount.increment();
+            totalLoadNanos.add(nanoTime.getAsLong() - start);
+        }
+    }
+
+    private void cache(Object key, Object value) {
+        if (value == null || maximumSize <= 0) {
+            return;
+        }
+        CachedValue cached = newValue(value);
+        synchronized (entries) {
+            entries.put(key, cached);
+            Iterator<CachedValue> eldest = entries.values().iterator();
+            while (entries.size() > maximumSize) {
+                eldest.next();
+                eldest.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private CachedValue newValue(Object value) {
+        return new CachedValue(value, nanoTime.getAsLong() + ttlNanos);
+    }
+
+    private record PageKey(long afterId, int limit) {
+    }
+
+    private static class CachedValue {
+        private final Object value;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        CachedValue(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
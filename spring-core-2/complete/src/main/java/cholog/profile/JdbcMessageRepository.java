@@ -1,10 +1,43 @@
 package cholog.profile;
 
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class JdbcMessageRepository implements MessageRepository {
+    private static final RowMapper<Message> MESSAGE_ROW_MAPPER = (rs, rowNum) -> new Message(rs.getLong("id"), rs.getString("content"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMessageRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
     @Override
     public List<String> findMessages() {
-        return List.of("Production Profile");
+        return jdbcTemplate.queryForList("SELECT content FROM message ORDER BY id", String.class);
+    }
+
+    @Override
+    public Stream<String> streamMessages(int fetchSize) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT content FROM message ORDER BY id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (rs, rowNum) -> rs.getString("content"));
+    }
+
+    @Override
+    public List<Message> findMessagesAfter(long afterId, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit 은 0 이상이어야 합니다.");
+        }
+        return jdbcTemplate.query("SELECT id, content FROM message WHERE id > ? ORDER BY id LIMIT ?",
+                MESSAGE_ROW_MAPPER, afterId, limit);
     }
 }
@@ -0,0 +1,19 @@
+package cholog.profile;
+
+public class Message {
+    private final long id;
+    private final String content;
+
+    public Message(long id, String content) {
+        this.id = id;
+        this.content = content;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
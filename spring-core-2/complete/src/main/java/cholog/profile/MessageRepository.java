@@ -1,7 +1,38 @@
 package cholog.profile;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MessageRepository {
     List<String> findMessages();
+
+    /**
+     * 메시지를 목록으로 모으지 않고 fetchSize 단위로 읽어 흘려보낸다.
+     * 반환된 Stream 은 커넥션을 잡고 있을 수 있으므로 try-with-resources 로 닫는다.
+     */
+    default Stream<String> streamMessages(int fetchSize) {
+        return findMessages().stream();
+    }
+
+    /**
+     * keyset paging: id 가 afterId 보다 큰 메시지를 id 순으로 최대 limit 개 반환한다.
+     * 다음 페이지는 마지막 메시지의 id 로 다시 조회한다.
+     */
+    default List<Message> findMessagesAfter(long afterId, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit 은 0 이상이어야 합니다.");
+        }
+        List<String> messages = findMessages();
+        if (afterId >= messages.size()) {
+            return new ArrayList<>();
+        }
+        // afterId 는 목록 크기보다 작으므로 int 로 바꿔도 넘치지 않는다.
+        int start = (int) Math.max(afterId, 0);
+        List<Message> page = new ArrayList<>(Math.min(limit, messages.size() - start));
+        for (int i = start; i < messages.size() && page.size() < limit; i++) {
+            page.add(new Message(i + 1, messages.get(i)));
+        }
+        return page;
+    }
 }
@@ -1,11 +1,20 @@
 package cholog.profile.config;
 
+import cholog.profile.CachingMessageRepository;
 import cholog.profile.InmemoryMessageRepository;
 import cholog.profile.JdbcMessageRepository;
 import cholog.profile.MessageRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
 
 @Configuration
 public class ProfileConfig {
@@ -16,10 +25,46 @@ public class ProfileConfig {
         return new InmemoryMessageRepository();
     }
 
+    /**
+     * 로컬에서는 내장 H2 를 사용한다. 실제 운영 DB 를 쓸 때는 이 DataSource 만 바꾼다.
+     * DataSourceAutoConfiguration 은 application.properties 에서 제외했으므로 prod 외에는 DataSource 가 없다.
+     */
+    @Bean
+    @Profile("prod")
+    public DataSource messageDataSource() {
+        return new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("classpath:message-schema.sql")
+                .addScript("classpath:message-data.sql")
+                .build();
+    }
+
     @Bean
     @Profile("prod")
-    public MessageRepository jdbcMessageRepository() {
-        return new JdbcMessageRepository();
+    public MessageRepository jdbcMessageRepository(DataSource messageDataSource) {
+        return new JdbcMessageRepository(new JdbcTemplate(messageDataSource));
+    }
+
+    /**
+     * message.cache.enabled 를 켠 프로파일에서만 MessageRepository 빈을 CachingMessageRepository 로 감싼다.
+     * ex) application-prod.properties
+     */
+    @Bean
+    @ConditionalOnProperty(name = "message.cache.enabled", havingValue = "true")
+    public static BeanPostProcessor messageRepositoryCache(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof MessageRepository repository) || bean instanceof CachingMessageRepository) {
+                    return bean;
+                }
+                return new CachingMessageRepository(repository,
+                        environment.getRequiredProperty("message.cache.ttl", Long.class),
+                        environment.getRequiredProperty("message.cache.refresh-ahead", Long.class),
+                        environment.getRequiredProperty("message.cache.maximum-size", Integer.class));
+            }
+        };
     }
 
 }
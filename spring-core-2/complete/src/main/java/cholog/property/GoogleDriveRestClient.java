@@ -1,14 +1,20 @@
 package cholog.property;
 
+import java.util.function.Supplier;
+
 public class GoogleDriveRestClient implements RestClient {
-    private final String endpoint;
+    private final Supplier<String> endpoint;
 
     public GoogleDriveRestClient(String endpoint) {
+        this(() -> endpoint);
+    }
+
+    public GoogleDriveRestClient(Supplier<String> endpoint) {
         this.endpoint = endpoint;
     }
 
     @Override
     public String getEndpoint() {
-        return endpoint;
+        return endpoint.get();
     }
 }
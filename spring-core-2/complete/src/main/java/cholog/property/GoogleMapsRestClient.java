@@ -1,14 +1,23 @@
 package cholog.property;
 
+import java.util.function.Supplier;
+
 public class GoogleMapsRestClient implements RestClient {
-    private final String endpoint;
+    private final Supplier<String> endpoint;
 
     public GoogleMapsRestClient(String endpoint) {
+        this(() -> endpoint);
+    }
+
+    /**
+     * 호출할 때마다 endpoint 를 다시 읽어 설정이 바뀌면 빈을 새로 만들지 않아도 반영된다.
+     */
+    public GoogleMapsRestClient(Supplier<String> endpoint) {
         this.endpoint = endpoint;
     }
 
     @Override
     public String getEndpoint() {
-        return endpoint;
+        return endpoint.get();
     }
 }
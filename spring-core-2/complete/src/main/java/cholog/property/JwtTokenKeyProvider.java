@@ -1,14 +1,20 @@
 package cholog.property;
 
+import java.util.function.Supplier;
+
 public class JwtTokenKeyProvider {
-    private String secretKey;
+    private final Supplier<String> secretKey;
 
     public JwtTokenKeyProvider(String secretKey) {
+        this(() -> secretKey);
+    }
+
+    public JwtTokenKeyProvider(Supplier<String> secretKey) {
         this.secretKey = secretKey;
     }
 
     public String getSecretKey() {
-        return secretKey;
+        return secretKey.get();
     }
 }
 
@@ -0,0 +1,87 @@
+package cholog.property;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+
+/**
+ * WatchService 로 properties 파일을 지켜보다가 바뀌면 파일 전체를 다시 읽어 PropertySnapshotHolder 의 스냅샷을 바꾼다.
+ * 편집기가 새 파일로 바꿔치기하는 경우도 있어 같은 이름의 생성 이벤트도 함께 받는다.
+ * 파일을 읽지 못하거나 형식이 잘못되면 이전 스냅샷을 그대로 둔다.
+ */
+public class PropertyFileReloader implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PropertyFileReloader.class);
+
+    private final Path file;
+    private final PropertySnapshotHolder holder;
+    private WatchService watchService;
+
+    public PropertyFileReloader(Path file, PropertySnapshotHolder holder) {
+        this.file = file.toAbsolutePath();
+        this.holder = holder;
+    }
+
+    public void start() throws IOException {
+        reload();
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+
+        Thread thread = new Thread(this::watch, "property-file-reloader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void reload() {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException | RuntimeException e) {
+            // 잘못된 유니코드 이스케이프는 IllegalArgumentException 으로 온다. 감시 스레드가 죽지 않도록 함께 받는다.
+            log.warn("{} 을 읽지 못해 이전 설정을 유지합니다.", file, e);
+            return;
+        }
+        holder.set(PropertySnapshot.from(properties));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 로 종료
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package cholog.property;
+
+import java.util.Properties;
+
+/**
+ * 다시 읽을 수 있는 파일에 적힌 ext-api.properties 와 security.jwt.* 값을 한 번에 묶은 불변 스냅샷.
+ * 파일에 없는 키는 null 로 두고, 읽는 쪽이 Environment 에서 가져온 기본값을 넘겨 대신 쓴다.
+ * 파일이 바뀌면 필드를 고치지 않고 파일 전체로 새 스냅샷을 만들어 PropertySnapshotHolder 에서 통째로 바꾼다.
+ */
+public final class PropertySnapshot {
+    public static final String GOOGLE_API_ENDPOINT = "google.api.endpoint";
+    public static final String JWT_SECRET_KEY = "security.jwt.token.secret-key";
+    public static final PropertySnapshot EMPTY = new PropertySnapshot(null, null);
+
+    private final String googleApiEndpoint;
+    private final String jwtSecretKey;
+
+    public PropertySnapshot(String googleApiEndpoint, String jwtSecretKey) {
+        this.googleApiEndpoint = googleApiEndpoint;
+        this.jwtSecretKey = jwtSecretKey;
+    }
+
+    /**
+     * 파일에서 지워진 키는 새 스냅샷에도 없으므로 다시 기본값을 쓰게 된다.
+     */
+    public static PropertySnapshot from(Properties properties) {
+        return new PropertySnapshot(properties.getProperty(GOOGLE_API_ENDPOINT), properties.getProperty(JWT_SECRET_KEY));
+    }
+
+    public String getGoogleApiEndpoint(String defaultValue) {
+        return googleApiEndpoint != null ? googleApiEndpoint : defaultValue;
+    }
+
+    public String getJwtSecretKey(String defaultValue) {
+        return jwtSecretKey != null ? jwtSecretKey : defaultValue;
+    }
+}
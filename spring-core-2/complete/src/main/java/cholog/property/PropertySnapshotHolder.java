@@ -0,0 +1,21 @@
+package cholog.property;
+
+/**
+ * 읽을 때마다 Environment 의 property source 를 훑지 않도록 현재 스냅샷을 volatile 참조 하나로 들고 있다.
+ * 읽기는 락 없이 참조만 읽고, 갱신은 새 스냅샷으로 참조를 바꾼다.
+ */
+public class PropertySnapshotHolder {
+    private volatile PropertySnapshot snapshot;
+
+    public PropertySnapshotHolder(PropertySnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public PropertySnapshot get() {
+        return snapshot;
+    }
+
+    public void set(PropertySnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+}
@@ -1,14 +1,19 @@
 package cholog.property.config;
 
 import cholog.property.JwtTokenKeyProvider;
+import cholog.property.PropertySnapshotHolder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class AuthConfig {
+    /**
+     * @Value 로 주입받은 값을 기본값으로 두고, 다시 읽은 파일에 키가 있으면 그 값을 쓴다.
+     */
     @Bean
-    public JwtTokenKeyProvider jwtTokenKeyProvider(@Value("${security.jwt.token.secret-key}") String secretKey) {
-        return new JwtTokenKeyProvider(secretKey);
+    public JwtTokenKeyProvider jwtTokenKeyProvider(@Value("${security.jwt.token.secret-key}") String secretKey,
+                                                   PropertySnapshotHolder propertySnapshotHolder) {
+        return new JwtTokenKeyProvider(() -> propertySnapshotHolder.get().getJwtSecretKey(secretKey));
     }
 }
@@ -2,12 +2,18 @@ package cholog.property.config;
 
 import cholog.property.GoogleDriveRestClient;
 import cholog.property.GoogleMapsRestClient;
+import cholog.property.PropertyFileReloader;
+import cholog.property.PropertySnapshot;
+import cholog.property.PropertySnapshotHolder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 
+import java.nio.file.Path;
+
 @Configuration
 @PropertySource("classpath:ext-api.properties")
 public class PropertySourceConfig {
@@ -18,13 +24,33 @@ public class PropertySourceConfig {
         this.env = env;
     }
 
+    /**
+     * 다시 읽은 파일의 값만 들고 있다. 파일을 지켜보지 않으면 비어 있어 각 빈은 Environment 에서 읽은 값을 쓴다.
+     */
+    @Bean
+    public PropertySnapshotHolder propertySnapshotHolder() {
+        return new PropertySnapshotHolder(PropertySnapshot.EMPTY);
+    }
+
+    /**
+     * 파일이 바뀌면 컨텍스트를 새로 고치지 않고 스냅샷만 바꾼다.
+     * ex) ./gradlew bootRun --args='--ext-api.reload.location=./ext-api.properties'
+     */
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty("ext-api.reload.location")
+    public PropertyFileReloader propertyFileReloader(PropertySnapshotHolder propertySnapshotHolder) {
+        return new PropertyFileReloader(Path.of(env.getRequiredProperty("ext-api.reload.location")), propertySnapshotHolder);
+    }
+
     @Bean
-    public GoogleMapsRestClient googleMapsRestClient() {
-        return new GoogleMapsRestClient(env.getProperty("google.api.endpoint"));
+    public GoogleMapsRestClient googleMapsRestClient(PropertySnapshotHolder propertySnapshotHolder) {
+        String endpoint = env.getProperty("google.api.endpoint");
+        return new GoogleMapsRestClient(() -> propertySnapshotHolder.get().getGoogleApiEndpoint(endpoint));
     }
 
     @Bean
-    public GoogleDriveRestClient googleDriveRestClient(@Value("${google.api.endpoint}") String endpoint) {
-        return new GoogleDriveRestClient(endpoint);
+    public GoogleDriveRestClient googleDriveRestClient(@Value("${google.api.endpoint}") String endpoint,
+                                                       PropertySnapshotHolder propertySnapshotHolder) {
+        return new GoogleDriveRestClient(() -> propertySnapshotHolder.get().getGoogleApiEndpoint(endpoint));
     }
 }
@@ -0,0 +1 @@
+INSERT INTO message (content) VALUES ('Production Profile');
@@ -0,0 +1,128 @@
+package cholog.profile;
+
+import cholog.profile.config.ProfileConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingMessageRepositoryTest {
+    private static final long MILLIS = 1_000_000;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger version = new AtomicInteger();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private CachingMessageRepository cache;
+
+    @BeforeEach
+    void setUp() {
+        MessageRepository delegate = () -> {
+            now.addAndGet(5 * MILLIS);
+            return List.of("Message " + version.incrementAndGet());
+        };
+        cache = new CachingMessageRepository(delegate, 100, 20, 10, refreshTasks::add, now::get);
+    }
+
+    @Test
+    void cacheUntilExpired() {
+        assertThat(cache.findMessages()).containsExactly("Message 1");
+        assertThat(cache.findMessages()).containsExactly("Message 1");
+
+        now.addAndGet(200 * MILLIS);
+        assertThat(cache.findMessages()).containsExactly("Message 2");
+
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getAverageLoadTimeNanos()).isEqualTo(5.0 * MILLIS);
+    }
+
+    @Test
+    void refreshAheadReturnsCachedValue() {
+        cache.findMessages();
+        now.addAndGet(90 * MILLIS);
+
+        assertThat(cache.findMessages()).containsExactly("Message 1");
+        assertThat(cache.findMessages()).containsExactly("Message 1");
+        assertThat(refreshTasks).hasSize(1);
+
+        refreshTasks.remove(0).run();
+        assertThat(cache.findMessages()).containsExactly("Message 2");
+        assertThat(cache.getRefreshCount()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    void invalidateDiscardsRefresh() {
+        cache.findMessages();
+        now.addAndGet(90 * MILLIS);
+        cache.findMessages();
+
+        cache.invalidateAll();
+        refreshTasks.remove(0).run();
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictEldestWhenFull() {
+        for (int afterId = 0; afterId < 11; afterId++) {
+            cache.findMessagesAfter(afterId, 10);
+        }
+
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyReadWhenFull() {
+        for (int afterId = 0; afterId < 10; afterId++) {
+            cache.findMessagesAfter(afterId, 10);
+        }
+        cache.findMessagesAfter(0, 10);
+        cache.findMessagesAfter(10, 10);
+
+        long misses = cache.getMissCount();
+        cache.findMessagesAfter(0, 10);
+        assertThat(cache.getMissCount()).isEqualTo(misses);
+        cache.findMessagesAfter(1, 10);
+        assertThat(cache.getMissCount()).isEqualTo(misses + 1);
+    }
+
+    @Test
+    void cachedListIsNotShared() {
+        List<String> messages = new ArrayList<>(List.of("Message"));
+        CachingMessageRepository cache = new CachingMessageRepository(() -> messages, 100, 20, 10, refreshTasks::add, now::get);
+
+        List<String> cached = cache.findMessages();
+        messages.add("Changed");
+
+        assertThat(cache.findMessages()).containsExactly("Message");
+        assertThat(cached).isUnmodifiable();
+    }
+
+    @Test
+    void wrapRepositoryWhenEnabled() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().setActiveProfiles("dev");
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("message-cache", Map.of(
+                "message.cache.enabled", "true",
+                "message.cache.ttl", "60000",
+                "message.cache.refresh-ahead", "10000",
+                "message.cache.maximum-size", "1000")));
+        context.register(ProfileConfig.class);
+        context.refresh();
+
+        MessageRepository repository = context.getBean(MessageRepository.class);
+        assertThat(repository).isInstanceOf(CachingMessageRepository.class);
+        assertThat(repository.findMessages()).containsExactly("Development Profile");
+        context.close();
+    }
+}
@@ -0,0 +1,56 @@
+package cholog.profile;
+
+import cholog.profile.config.ProfileConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcMessageRepositoryTest {
+    private AnnotationConfigApplicationContext context;
+    private MessageRepository messageRepository;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().setActiveProfiles("prod");
+        context.register(ProfileConfig.class);
+        context.refresh();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        for (int i = 1; i <= 4; i++) {
+            jdbcTemplate.update("INSERT INTO message (content) VALUES (?)", "Message " + i);
+        }
+        messageRepository = context.getBean(MessageRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void streamMessages() {
+        try (Stream<String> messages = messageRepository.streamMessages(2)) {
+            assertThat(messages.collect(Collectors.toList()))
+                    .containsExactly("Production Profile", "Message 1", "Message 2", "Message 3", "Message 4");
+        }
+    }
+
+    @Test
+    void findMessagesAfter() {
+        List<Message> firstPage = messageRepository.findMessagesAfter(0, 2);
+        List<Message> secondPage = messageRepository.findMessagesAfter(firstPage.get(1).getId(), 2);
+
+        assertThat(firstPage).extracting(Message::getContent).containsExactly("Production Profile", "Message 1");
+        assertThat(secondPage).extracting(Message::getContent).containsExactly("Message 2", "Message 3");
+    }
+}
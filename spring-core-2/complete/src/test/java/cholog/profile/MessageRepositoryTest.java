@@ -0,0 +1,32 @@
+package cholog.profile;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessageRepositoryTest {
+    private final MessageRepository messageRepository = () -> List.of("a", "b", "c");
+
+    @Test
+    void findMessagesAfter() {
+        List<Message> page = messageRepository.findMessagesAfter(1, 5);
+
+        assertThat(page).extracting(Message::getId).containsExactly(2L, 3L);
+        assertThat(page).extracting(Message::getContent).containsExactly("b", "c");
+    }
+
+    @Test
+    void findMessagesAfterOutOfRangeId() {
+        assertThat(messageRepository.findMessagesAfter(-10, 1)).extracting(Message::getId).containsExactly(1L);
+        assertThat(messageRepository.findMessagesAfter(Integer.MAX_VALUE + 1L, 5)).isEmpty();
+        assertThat(messageRepository.findMessagesAfter(Long.MAX_VALUE, 5)).isEmpty();
+    }
+
+    @Test
+    void rejectNegativeLimit() {
+        assertThatThrownBy(() -> messageRepository.findMessagesAfter(0, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package cholog.property;
+
+import cholog.property.config.PropertySourceConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 값 반영은 reload 를 직접 호출해 확인하고, WatchService 로 감시하는 경로는 폴링 방식(macOS)도 고려해 넉넉히 기다린다.
+ */
+class PropertyFileReloaderTest {
+    private static final Duration WATCH_TIMEOUT = Duration.ofSeconds(60);
+
+    @Test
+    void refreshClientsWhenFileChanges(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("ext-api.properties");
+        Files.writeString(file, "google.api.endpoint=https://www.googleapis.com\n");
+
+        PropertySnapshotHolder holder = new PropertySnapshotHolder(PropertySnapshot.EMPTY);
+        RestClient restClient = new GoogleMapsRestClient(() -> holder.get().getGoogleApiEndpoint(null));
+        JwtTokenKeyProvider jwtTokenKeyProvider = new JwtTokenKeyProvider(() -> holder.get().getJwtSecretKey("secret"));
+
+        try (PropertyFileReloader reloader = new PropertyFileReloader(file, holder)) {
+            reloader.reload();
+            assertThat(restClient.getEndpoint()).isEqualTo("https://www.googleapis.com");
+            assertThat(jwtTokenKeyProvider.getSecretKey()).isEqualTo("secret");
+
+            Files.writeString(file, "google.api.endpoint=https://maps.googleapis.com\nsecurity.jwt.token.secret-key=rotated\n");
+            reloader.reload();
+
+            assertThat(restClient.getEndpoint()).isEqualTo("https://maps.googleapis.com");
+            assertThat(jwtTokenKeyProvider.getSecretKey()).isEqualTo("rotated");
+        }
+    }
+
+    @Test
+    void fallBackToDefaultWhenKeyIsRemoved(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("ext-api.properties");
+        Files.writeString(file, "security.jwt.token.secret-key=rotated\n");
+
+        PropertySnapshotHolder holder = new PropertySnapshotHolder(PropertySnapshot.EMPTY);
+        JwtTokenKeyProvider jwtTokenKeyProvider = new JwtTokenKeyProvider(() -> holder.get().getJwtSecretKey("secret"));
+
+        try (PropertyFileReloader reloader = new PropertyFileReloader(file, holder)) {
+            reloader.reload();
+            assertThat(jwtTokenKeyProvider.getSecretKey()).isEqualTo("rotated");
+
+            Files.writeString(file, "google.api.endpoint=https://maps.googleapis.com\n");
+            reloader.reload();
+
+            assertThat(jwtTokenKeyProvider.getSecretKey()).isEqualTo("secret");
+        }
+    }
+
+    @Test
+    void keepSnapshotWhenFileIsMalformed(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("ext-api.properties");
+        Files.writeString(file, "security.jwt.token.secret-key=rotated\n");
+
+        PropertySnapshotHolder holder = new PropertySnapshotHolder(PropertySnapshot.EMPTY);
+        try (PropertyFileReloader reloader = new PropertyFileReloader(file, holder)) {
+            reloader.reload();
+            Files.writeString(file, "security.jwt.token.secret-key=\\uZZZZ\n");
+            reloader.reload();
+
+            assertThat(holder.get().getJwtSecretKey("secret")).isEqualTo("rotated");
+        }
+    }
+
+    @Test
+    void reloadWhenWatchedFileChanges(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("ext-api.properties");
+        Files.writeString(file, "google.api.endpoint=https://www.googleapis.com\n");
+
+        PropertySnapshotHolder holder = new PropertySnapshotHolder(PropertySnapshot.EMPTY);
+        try (PropertyFileReloader reloader = new PropertyFileReloader(file, holder)) {
+            reloader.start();
+            assertThat(holder.get().getGoogleApiEndpoint(null)).isEqualTo("https://www.googleapis.com");
+
+            rewrite(file, "google.api.endpoint=https://maps.googleapis.com\n");
+
+            assertThat(await(() -> holder.get().getGoogleApiEndpoint(null), "https://maps.googleapis.com")).isTrue();
+        }
+    }
+
+    @Test
+    void registerReloaderWhenLocationIsSet(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("ext-api.properties");
+        Files.writeString(file, "google.api.endpoint=https://maps.googleapis.com\n");
+
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("reload", Map.of(
+                "ext-api.reload.location", file.toString())));
+        context.register(PropertySourceConfig.class);
+        context.refresh();
+        try {
+            RestClient restClient = context.getBean(GoogleMapsRestClient.class);
+            assertThat(context.getBeansOfType(PropertyFileReloader.class)).hasSize(1);
+            assertThat(restClient.getEndpoint()).isEqualTo("https://maps.googleapis.com");
+
+            rewrite(file, "security.jwt.token.secret-key=rotated\n");
+
+            assertThat(await(restClient::getEndpoint, "https://www.googleapis.com")).isTrue();
+        } finally {
+            context.close();
+        }
+    }
+
+    @Test
+    void doNotRegisterReloaderWithoutLocation() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(PropertySourceConfig.class);
+
+        assertThat(context.getBeansOfType(PropertyFileReloader.class)).isEmpty();
+        context.close();
+    }
+
+    @Test
+    void keepSnapshotWhenFileIsMissing(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("ext-api.properties");
+        Files.writeString(file, "security.jwt.token.secret-key=rotated\n");
+
+        PropertySnapshotHolder holder = new PropertySnapshotHolder(PropertySnapshot.EMPTY);
+        try (PropertyFileReloader reloader = new PropertyFileReloader(file, holder)) {
+            reloader.reload();
+            Files.delete(file);
+            reloader.reload();
+
+            assertThat(holder.get().getJwtSecretKey("secret")).isEqualTo("rotated");
+        }
+    }
+
+    /**
+     * 폴링 방식의 WatchService 는 수정 시각으로 변경을 알아채므로, 같은 초 안에 다시 써도 시각이 달라지도록 앞당긴다.
+     */
+    private static void rewrite(Path file, String content) throws IOException {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(5)));
+    }
+
+    private static boolean await(Supplier<String> actual, String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + WATCH_TIMEOUT.toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            if (expected.equals(actual.get())) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+}